@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"   // 성능 측정 (src/jmh, ./gradlew jmh)
 }
 
 group = "com.back"
@@ -34,6 +35,11 @@ dependencies {
     runtimeOnly("com.h2database:h2")
     runtimeOnly("org.postgresql:postgresql")    // PostgreSQL JDBC 드라이버
     implementation("org.hibernate.orm:hibernate-spatial")   // PostGIS 및 공간 데이터 처리
+    implementation("com.github.ben-manes.caffeine:caffeine")    // 로컬 캐시 (인증 사용자 등)
+    implementation("org.flywaydb:flyway-core")    // 스키마 마이그레이션 (src/main/resources/db/migration)
+    runtimeOnly("org.flywaydb:flyway-database-postgresql")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")    // 지표 수집 (/actuator)
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")     // /actuator/prometheus
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     implementation("org.springframework.boot:spring-boot-starter-security")
@@ -43,8 +49,17 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.11") // swagger
+    jmh("org.springframework:spring-test")  // 벤치마크용 MockHttpServletRequest
 }
 
 tasks.named<Test>("test") {
     useJUnitPlatform()
+    systemProperty("spring.profiles.active", "test")    // 분리된 테스트 스키마 사용 (src/test/resources/application-test.yml)
+}
+
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")    // build/results/jmh/results.json 으로 이전 결과와 비교
 }
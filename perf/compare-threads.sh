@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본)와 가상 스레드(virtual 프로필) 모드를 같은 장비에서 차례로 띄워 같은 부하를 주고 결과를 비교한다.
+# 필요: docker compose 로 띄운 PostGIS, k6, jq
+#
+#   ./perf/compare-threads.sh              # RATE=400, DURATION=60s
+#   RATE=800 DURATION=120s ./perf/compare-threads.sh
+#
+# 결과: build/perf/<mode>.json (k6 summary), 마지막에 모드별 처리량 / p99 표 출력
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RATE="${RATE:-400}"
+DURATION="${DURATION:-60s}"
+PORT="${PORT:-8080}"
+OUT_DIR="build/perf"
+mkdir -p "$OUT_DIR"
+
+./gradlew -q bootJar
+JAR="$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)"
+
+run_mode() {
+  local mode="$1" profiles="$2" jvm_opts="${3:-}"
+  echo "== ${mode} (profiles: ${profiles:-default}) =="
+
+  java $jvm_opts -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+    --spring.jpa.show-sql=false > "$OUT_DIR/${mode}.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  # 기동(초기 데이터 적재 포함) 대기
+  until curl -sf "http://localhost:${PORT}/api/pins/all?limit=1" > /dev/null; do sleep 1; done
+
+  # 워밍업 후 측정
+  k6 run -q -e BASE_URL="http://localhost:${PORT}" -e RATE="$((RATE / 4))" -e DURATION=15s \
+    perf/k6/blocking-endpoints.js > /dev/null || true
+  k6 run -e BASE_URL="http://localhost:${PORT}" -e RATE="$RATE" -e DURATION="$DURATION" \
+    --summary-export "$OUT_DIR/${mode}.json" perf/k6/blocking-endpoints.js || true
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform ""
+run_mode virtual "virtual" "-Djdk.tracePinnedThreads=short"
+echo "virtual 모드 캐리어 스레드 고정(pinning) 보고: $(grep -c 'onPinned\|<== monitors' "$OUT_DIR/virtual.log" || true)건 ($OUT_DIR/virtual.log)"
+
+printf '\n%-10s %12s %10s %10s %10s\n' mode "req/s" "p99(ms)" "p95(ms)" "failed"
+for mode in platform virtual; do
+  jq -r --arg mode "$mode" '[$mode,
+      (.metrics.http_reqs.rate | floor),
+      (.metrics.http_req_duration["p(99)"] | . * 10 | floor / 10),
+      (.metrics.http_req_duration["p(95)"] | . * 10 | floor / 10),
+      (.metrics.http_req_failed.value)] | @tsv' "$OUT_DIR/${mode}.json" \
+    | awk '{ printf "%-10s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+done
@@ -0,0 +1,77 @@
+// 가상 스레드 / 플랫폼 스레드 모드 비교용 부하 시나리오 (k6)
+// JDBC 대기가 대부분인 조회 API(myPage, 반경 조회)에 고정 도착률로 요청을 보내 처리량과 p99 지연을 측정한다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=400 perf/k6/blocking-endpoints.js
+//
+// 두 모드 비교는 perf/compare-threads.sh 로 같은 장비에서 연달아 실행한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 400);              // 초당 요청 수 (시나리오별)
+const DURATION = __ENV.DURATION || '60s';
+const MAX_VUS = Number(__ENV.MAX_VUS || 2000);
+
+// 서울시청 기준 반경 조회 좌표 (초기 데이터 위치)
+const BASE_LAT = 37.5665;
+const BASE_LNG = 126.9780;
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios: {
+        myPage: {
+            executor: 'constant-arrival-rate',
+            exec: 'myPage',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.min(RATE, MAX_VUS),
+            maxVUs: MAX_VUS,
+        },
+        radiusPins: {
+            executor: 'constant-arrival-rate',
+            exec: 'radiusPins',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.min(RATE, MAX_VUS),
+            maxVUs: MAX_VUS,
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{scenario:myPage}': ['p(99)<1000'],
+        'http_req_duration{scenario:radiusPins}': ['p(99)<1000'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// 초기 데이터 사용자로 로그인해 Authorization 헤더 준비 (로그인 사용자 조회는 타일 캐시를 거치지 않고 DB 로 감)
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/user/login`,
+        JSON.stringify({ email: 'user1@example.com', password: '12345678' }),
+        { headers: { 'Content-Type': 'application/json' }, responseType: 'text' });
+    check(res, { 'login 200': (r) => r.status === 200 });
+
+    const data = res.json('data');
+    return { authorization: `Bearer ${data.apiKey} ${data.accessToken}` };
+}
+
+export function myPage(auth) {
+    const res = http.get(`${BASE_URL}/api/user/mypage`, {
+        headers: { Authorization: auth.authorization },
+        tags: { name: 'myPage' },
+    });
+    check(res, { 'myPage 200': (r) => r.status === 200 });
+}
+
+export function radiusPins(auth) {
+    // 반경 1km 안에서 위치를 조금씩 바꿔 같은 결과만 반복하지 않도록 함
+    const lat = BASE_LAT + (Math.random() - 0.5) * 0.02;
+    const lng = BASE_LNG + (Math.random() - 0.5) * 0.02;
+    const res = http.get(`${BASE_URL}/api/pins?latitude=${lat}&longitude=${lng}&radius=1000`, {
+        headers: { Authorization: auth.authorization },
+        tags: { name: 'getRadiusPins' },
+    });
+    check(res, { 'radiusPins 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,24 @@
+package com.back.pinco.benchmark;
+
+import com.back.pinco.global.geometry.GeometryUtil;
+import org.locationtech.jts.geom.Point;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌표 → Point 생성 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class GeometryUtilBenchmark {
+
+    private double longitude = 127.0276;
+    private double latitude = 37.4979;
+
+    @Benchmark
+    public Point createPoint() {
+        return GeometryUtil.createPoint(longitude, latitude);
+    }
+}
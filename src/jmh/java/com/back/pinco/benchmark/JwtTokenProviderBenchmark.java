@@ -0,0 +1,48 @@
+package com.back.pinco.benchmark;
+
+import com.back.pinco.global.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급 / 검증 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String validToken;
+    private String invalidToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider("aVeryLongSecretKey_ForBenchmarkOnly_2025!", 1800, 86400);
+        validToken = tokenProvider.generateAccessToken(1L, "bench@test.com", "bench");
+        invalidToken = validToken.substring(0, validToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken(1L, "bench@test.com", "bench");
+    }
+
+    // 인증 필터 경로 (검증 + 사용자 ID 파싱 1회)
+    @Benchmark
+    public Long userIdOrNull() {
+        return tokenProvider.userIdOrNull(validToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> payloadOrNull() {
+        return tokenProvider.payloadOrNull(validToken);
+    }
+
+    @Benchmark
+    public boolean isValidWithBadSignature() {
+        return tokenProvider.isValid(invalidToken);
+    }
+}
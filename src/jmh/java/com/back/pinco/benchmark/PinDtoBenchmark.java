@@ -0,0 +1,73 @@
+package com.back.pinco.benchmark;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.tag.dto.TagDto;
+import com.back.pinco.domain.tag.entity.PinTag;
+import com.back.pinco.domain.tag.entity.Tag;
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.global.geometry.GeometryUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핀 목록 → PinDto 변환 비용 (DB 없이 메모리 위 엔티티로 측정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PinDtoBenchmark {
+
+    @Param({"20", "500"})
+    int pinCount;
+
+    @Param({"3"})
+    int tagsPerPin;
+
+    private List<Pin> pins;
+    private List<List<TagDto>> prefetchedTags;
+
+    @Setup
+    public void setUp() {
+        User user = new User("bench@test.com", "password", "bench");
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < tagsPerPin * 4; i++) {
+            tags.add(new Tag((long) i, "tag" + i));
+        }
+
+        pins = new ArrayList<>(pinCount);
+        prefetchedTags = new ArrayList<>(pinCount);
+        for (int i = 0; i < pinCount; i++) {
+            Pin pin = new Pin(GeometryUtil.createPoint(127.0 + i * 0.0001, 37.5), user, "핀 내용 " + i);
+            List<TagDto> tagDtos = new ArrayList<>(tagsPerPin);
+            for (int j = 0; j < tagsPerPin; j++) {
+                Tag tag = tags.get((i + j) % tags.size());
+                pin.getPinTags().add(new PinTag(pin, tag));
+                tagDtos.add(new TagDto(tag));
+            }
+            pins.add(pin);
+            prefetchedTags.add(tagDtos);
+        }
+    }
+
+    // 엔티티의 pinTags 를 따라가며 변환 (PinDto(Pin))
+    @Benchmark
+    public List<PinDto> mapFromEntityGraph() {
+        return pins.stream()
+                .map(PinDto::new)
+                .toList();
+    }
+
+    // 미리 조회한 태그로 변환 (PinReadService 경로)
+    @Benchmark
+    public List<PinDto> mapWithPrefetchedTags() {
+        List<PinDto> result = new ArrayList<>(pins.size());
+        for (int i = 0; i < pins.size(); i++) {
+            result.add(new PinDto(pins.get(i), prefetchedTags.get(i)));
+        }
+        return result;
+    }
+}
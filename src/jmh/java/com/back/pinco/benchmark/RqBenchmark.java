@@ -0,0 +1,43 @@
+package com.back.pinco.benchmark;
+
+import com.back.pinco.global.rq.Rq;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 쿠키 조회 비용 (인증 필터에서 요청마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RqBenchmark {
+
+    private Rq rq;
+
+    @Setup
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(
+                new Cookie("JSESSIONID", "session"),
+                new Cookie("theme", "dark"),
+                new Cookie("locale", "ko"),
+                new Cookie("apiKey", "0b7f6c1e-3c1d-4a55-9a0e-3f3c2b0f9a11"),
+                new Cookie("accessToken", "header.payload.signature")
+        );
+        rq = new Rq(request, new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public String getCookieValueHit() {
+        return rq.getCookieValue("accessToken", "");
+    }
+
+    @Benchmark
+    public String getCookieValueMiss() {
+        return rq.getCookieValue("refreshToken", "");
+    }
+}
@@ -2,6 +2,7 @@ package com.back.pinco.domain.bookmark.controller;
 
 import com.back.pinco.domain.bookmark.dto.BookmarkDto;
 import com.back.pinco.domain.bookmark.service.BookmarkService;
+import com.back.pinco.global.page.CursorPage;
 import com.back.pinco.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -32,6 +33,21 @@ public class BookmarkController {
         );
     }
 
+    @Operation(summary = "나의 북마크 목록 조회 (커서 페이지)", description = "사용자가 저장한 핀들의 목록을 최신순으로 limit 건씩 조회")
+    @GetMapping(params = "limit")
+    public RsData<CursorPage<BookmarkDto>> getMyBookmarksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit
+    ) {
+        Long userId = rq.getActor().getId();
+
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다.",
+                bookmarkService.getMyBookmarks(userId, cursor, limit)
+        );
+    }
+
     @Operation(summary = "북마크 삭제 (Soft Delete)", description = "특정 북마크를 소프트 삭제 처리")
     @DeleteMapping("/{bookmarkId}")
     public RsData<Void> deleteBookmark(@PathVariable Long bookmarkId) {
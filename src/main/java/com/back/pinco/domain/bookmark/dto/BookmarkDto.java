@@ -2,8 +2,10 @@ package com.back.pinco.domain.bookmark.dto;
 
 import com.back.pinco.domain.bookmark.entity.Bookmark;
 import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.tag.dto.TagDto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 북마크 DTO
@@ -23,5 +25,13 @@ public record BookmarkDto(
                 bookmark.getCreatedAt()
         );
     }
+
+    public BookmarkDto(Bookmark bookmark, List<TagDto> pinTags) {
+        this(
+                bookmark.getId(),
+                new PinDto(bookmark.getPin(), pinTags),
+                bookmark.getCreatedAt()
+        );
+    }
 }
 
@@ -16,11 +16,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_bookmark_user_pin",
                 columnNames = {"user_id", "pin_id"}
-        ),
-        indexes = {
-                @Index(name = "idx_bookmark_user", columnList = "user_id"),
-                @Index(name = "idx_bookmark_pin", columnList = "pin_id")
-        }
+        )    // 인덱스(삭제 제외 부분 인덱스 등)는 db/migration 에서 관리
 )
 @EntityListeners(AuditingEntityListener.class)
 @SequenceGenerator(
@@ -3,8 +3,15 @@ package com.back.pinco.domain.bookmark.repository;
 import com.back.pinco.domain.bookmark.entity.Bookmark;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.user.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,10 +21,56 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
      * 특정 사용자의 삭제되지 않은 북마크 목록 조회
      *
      * @param user 사용자 엔티티
-     * @return 삭제되지 않은 북마크 목록
+     * @return 삭제되지 않은 북마크 목록 (핀 함께 조회)
      */
+    @EntityGraph(attributePaths = "pin")
     List<Bookmark> findByUserAndDeletedFalse(User user);
 
+    /**
+     * 사용자의 북마크 목록 최신순 조회 (첫 페이지)
+     * 삭제된 핀, 다른 사용자가 비공개로 바꾼 핀의 북마크는 제외하고 핀을 함께 조회
+     *
+     * @param userId 사용자 ID
+     * @param limit 조회 건수
+     * @return 북마크 목록 (생성 시각, ID 내림차순)
+     */
+    @Query("""
+    SELECT b FROM Bookmark b
+    JOIN FETCH b.pin p
+    WHERE b.user.id = :userId
+      AND b.deleted = false
+      AND p.deleted = false
+      AND (p.isPublic = true OR p.user.id = :userId)
+    ORDER BY b.createdAt DESC, b.id DESC
+""")
+    List<Bookmark> findVisibleByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 사용자의 북마크 목록 최신순 조회 (커서 이후 페이지)
+     *
+     * @param userId 사용자 ID
+     * @param createdAt 이전 페이지 마지막 북마크의 생성 시각
+     * @param id 이전 페이지 마지막 북마크 ID
+     * @param limit 조회 건수
+     * @return 커서보다 오래된 북마크 목록 (생성 시각, ID 내림차순)
+     */
+    @Query("""
+    SELECT b FROM Bookmark b
+    JOIN FETCH b.pin p
+    WHERE b.user.id = :userId
+      AND b.deleted = false
+      AND p.deleted = false
+      AND (p.isPublic = true OR p.user.id = :userId)
+      AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))
+    ORDER BY b.createdAt DESC, b.id DESC
+""")
+    List<Bookmark> findVisibleByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
     /**
      * 특정 사용자가 특정 핀을 북마크했는지 확인 (삭제 여부와 관계없이)
      *
@@ -35,4 +88,25 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
      * @return 삭제되지 않은 북마크가 존재하면 Optional에 담아 반환, 없으면 빈 Optional 반환
      */
     Optional<Bookmark> findByUserAndPinAndDeletedFalse(User user, Pin pin);
+
+    /**
+     * 탈퇴한 사용자의 북마크를 chunkSize 건씩 소프트 삭제
+     *
+     * @param userId 사용자 ID
+     * @param now 수정 시각
+     * @param chunkSize 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수 (chunkSize 보다 적으면 남은 북마크 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE bookmarks SET is_deleted = TRUE, modified_at = :now
+        WHERE bookmark_id IN (
+          SELECT bookmark_id FROM bookmarks
+          WHERE user_id = :userId AND is_deleted = FALSE
+          LIMIT :chunkSize
+        )
+        AND is_deleted = FALSE    -- 동시에 실행된 정리와 같은 행을 두 번 세지 않도록 잠금 후 다시 확인
+        """, nativeQuery = true)
+    int softDeleteByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
 }
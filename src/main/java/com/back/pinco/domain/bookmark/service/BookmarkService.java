@@ -4,25 +4,38 @@ import com.back.pinco.domain.bookmark.dto.BookmarkDto;
 import com.back.pinco.domain.bookmark.entity.Bookmark;
 import com.back.pinco.domain.bookmark.repository.BookmarkRepository;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.service.PinReadService;
 import com.back.pinco.domain.pin.service.PinService;
+import com.back.pinco.domain.pin.service.PinTrendingIndex;
+import com.back.pinco.domain.tag.dto.TagDto;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.domain.user.service.UserStatsService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.page.CursorPage;
+import com.back.pinco.global.page.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookmarkService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final PinService pinService;
+    private final PinReadService pinReadService;
+    private final UserStatsService userStatsService;
+    private final PinTrendingIndex pinTrendingIndex;
 
     /**
      * 북마크 추가
@@ -48,6 +61,8 @@ public class BookmarkService {
                 .orElseGet(() -> new Bookmark(user, pin));
 
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
+        userStatsService.bookmarkChanged(userId, 1);
+        pinTrendingIndex.record(pin, PinTrendingIndex.BOOKMARK_WEIGHT);
 
         return new BookmarkDto(savedBookmark);
     }
@@ -59,14 +74,45 @@ public class BookmarkService {
      * @return 북마크 DTO 목록
      */
     public List<BookmarkDto> getMyBookmarks(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.BOOKMARK_INVALID_USER_INPUT));
+        if (!userRepository.existsById(userId)) {
+            throw new ServiceException(ErrorCode.BOOKMARK_INVALID_USER_INPUT);
+        }
+
+        // 삭제되지 않은 북마크 중 볼 수 있는 핀만 조회
+        return toDtos(bookmarkRepository.findVisibleByUserId(userId, Limit.unlimited()));
+    }
+
+    /**
+     * 사용자의 북마크 목록 조회 (최신순, 커서 페이지)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기
+     * @return 북마크 DTO 페이지
+     */
+    public CursorPage<BookmarkDto> getMyBookmarks(Long userId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        // 삭제되지 않은 북마크 목록만 조회
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserAndDeletedFalse(user);
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1 건 조회
+        List<Bookmark> bookmarks = after == null
+                ? bookmarkRepository.findVisibleByUserId(userId, Limit.of(limit + 1))
+                : bookmarkRepository.findVisibleByUserIdBefore(userId, after.time(), after.id(), Limit.of(limit + 1));
+
+        return CursorPage.of(toDtos(bookmarks), limit,
+                bookmark -> new KeysetCursor(bookmark.createdAt(), bookmark.id()).encode());
+    }
+
+    // 핀 태그는 한 번에 조회
+    private List<BookmarkDto> toDtos(List<Bookmark> bookmarks) {
+        Map<Long, List<TagDto>> tagsByPinId = pinReadService.findTagsByPinIds(
+                bookmarks.stream().map(bookmark -> bookmark.getPin().getId()).toList()
+        );
 
         return bookmarks.stream()
-                .map(BookmarkDto::new)
+                .map(bookmark -> new BookmarkDto(bookmark, tagsByPinId.getOrDefault(bookmark.getPin().getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
@@ -86,12 +132,17 @@ public class BookmarkService {
             throw new ServiceException(ErrorCode.BOOKMARK_NOT_FOUND);
         }
 
+        boolean wasDeleted = bookmark.getDeleted();
         try {
             bookmark.setDeleted();
             bookmarkRepository.save(bookmark);
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.BOOKMARK_DELETE_FAILED);
         }
+        if (!wasDeleted) {
+            userStatsService.bookmarkChanged(userId, -1);
+            pinTrendingIndex.record(bookmark.getPin(), -PinTrendingIndex.BOOKMARK_WEIGHT);
+        }
     }
 
     /**
@@ -113,12 +164,14 @@ public class BookmarkService {
             throw new ServiceException(ErrorCode.BOOKMARK_NOT_FOUND);
         }
 
+        boolean wasDeleted = bookmark.getDeleted();
         try {
             bookmark.restore();
             bookmarkRepository.save(bookmark);
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.BOOKMARK_RESTORE_FAILED);
         }
+        if (wasDeleted) userStatsService.bookmarkChanged(userId, 1);
     }
 
 
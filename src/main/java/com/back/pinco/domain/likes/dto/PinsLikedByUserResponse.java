@@ -34,16 +34,24 @@ public record PinsLikedByUserResponse(
         LocalDateTime modifiedAt
 ) {
     public static PinsLikedByUserResponse formEntry(Pin pin) {
+        return formEntry(
+                pin,
+                pin.getPinTags().stream()
+                        .map(PinTag::getTag)
+                        .map(tag -> new TagDto(tag.getId(), tag.getKeyword(), tag.getCreatedAt()))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    // 태그를 미리 조회해 둔 경우
+    public static PinsLikedByUserResponse formEntry(Pin pin, List<TagDto> pinTags) {
         return new PinsLikedByUserResponse(
                 pin.getId(),
                 pin.getPoint().getY(),
                 pin.getPoint().getX(),
                 pin.getContent(),
                 pin.getUser().getId(),
-                pin.getPinTags().stream()
-                        .map(PinTag::getTag)
-                        .map(tag -> new TagDto(tag.getId(), tag.getKeyword(), tag.getCreatedAt()))
-                        .collect(Collectors.toList()),
+                pinTags,
                 pin.getLikeCount(),
                 pin.getIsPublic(),
                 pin.getCreatedAt(),
@@ -16,12 +16,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_like_user_pin",
                 columnNames = {"user_id", "pin_id"}
-        ),
-        indexes = {
-                @Index(name = "idx_like_user", columnList = "user_id"),
-                @Index(name = "idx_like_pin", columnList = "pin_id"),
-                @Index(name = "idx_like_status", columnList = "is_liked")
-        }
+        )    // 인덱스(is_liked = true 부분 인덱스)는 db/migration 에서 관리
 )
 @EntityListeners(AuditingEntityListener.class)
 @SequenceGenerator(
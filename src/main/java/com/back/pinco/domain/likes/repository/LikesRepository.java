@@ -3,12 +3,15 @@ package com.back.pinco.domain.likes.repository;
 import com.back.pinco.domain.likes.entity.Likes;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,8 +37,70 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
     @Query("SELECT DISTINCT l.pin FROM Likes l WHERE l.user.id = :userId AND l.liked = true")
     List<Pin> findPinsByUserIdAndLikedTrue(@Param("userId") Long userId);
 
-    /** 탈퇴한 사용자의 좋아요 기록을 false로 변경 */
-    @Modifying
-    @Query("UPDATE Likes l SET l.liked = false  WHERE l.user.id = :userId AND l.liked = true")
-    int updateLikedByUserId(@Param("userId") Long userId);
+    /**
+     * 특정 사용자의 좋아요 목록 최신순 조회 (핀 함께 조회)
+     * 삭제된 핀, 다른 사용자의 비공개 핀은 제외
+     * before 보다 작은 좋아요 ID 만 조회 (첫 페이지는 Long.MAX_VALUE)
+     */
+    @Query("""
+    SELECT l FROM Likes l
+    JOIN FETCH l.pin p
+    WHERE l.user.id = :userId
+      AND l.liked = true
+      AND l.id < :before
+      AND p.deleted = false
+      AND (p.isPublic = true OR p.user.id = :userId)
+    ORDER BY l.id DESC
+""")
+    List<Likes> findVisibleLikesByUserId(@Param("userId") Long userId, @Param("before") Long before, Limit limit);
+
+    /**
+     * 특정 핀의 좋아요 목록 최신순 조회 (사용자 함께 조회)
+     * 탈퇴한 사용자는 제외
+     * before 보다 작은 좋아요 ID 만 조회 (첫 페이지는 Long.MAX_VALUE)
+     */
+    @Query("""
+    SELECT l FROM Likes l
+    JOIN FETCH l.user u
+    WHERE l.pin.id = :pinId
+      AND l.liked = true
+      AND l.id < :before
+      AND u.deleted = false
+    ORDER BY l.id DESC
+""")
+    List<Likes> findLikesByPinId(@Param("pinId") Long pinId, @Param("before") Long before, Limit limit);
+
+    /**
+     * 좋아요 여부가 다를 때만 변경
+     * 행 잠금 후 다시 비교하므로 같은 요청이 동시에 들어와도 한 번만 바뀐다.
+     * @return 바뀐 행 수 (0 이면 이미 같은 상태)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE likes SET is_liked = :liked, modified_at = :now
+        WHERE like_id = :likeId
+          AND is_liked <> :liked
+        """, nativeQuery = true)
+    int updateLikedIfChanged(@Param("likeId") Long likeId, @Param("liked") boolean liked, @Param("now") LocalDateTime now);
+
+    /**
+     * 탈퇴한 사용자의 좋아요를 chunkSize 건씩 취소
+     * @return 좋아요가 취소된 핀 ID 목록 (chunkSize 보다 적으면 남은 좋아요 없음)
+     */
+    @Transactional
+    @Query(value = """
+        WITH revoked AS (
+          UPDATE likes SET is_liked = FALSE, modified_at = :now
+          WHERE like_id IN (
+            SELECT like_id FROM likes
+            WHERE user_id = :userId AND is_liked = TRUE
+            LIMIT :chunkSize
+          )
+          AND is_liked = TRUE    -- 동시에 실행된 정리와 같은 행을 두 번 세지 않도록 잠금 후 다시 확인
+          RETURNING pin_id
+        )
+        SELECT pin_id FROM revoked
+        """, nativeQuery = true)
+    List<Long> revokeLikesByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
 }
@@ -0,0 +1,189 @@
+package com.back.pinco.domain.likes.service;
+
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.user.repository.UserStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 핀 좋아요 수 쓰기 지연 버퍼
+ * 좋아요 변경 시 pins.like_count 를 바로 갱신하지 않고 핀별 증감(+1/-1)을 메모리에 모아 두었다가
+ * 주기적으로 한 번의 UPDATE 로 반영한다. 인기 핀에 좋아요가 몰릴 때 핀 행 잠금 경합을 줄이기 위함.
+ * 작성자가 받은 좋아요 수(user_stats.likes_received)도 같은 트랜잭션에서 함께 반영한다.
+ */
+@Slf4j
+@Component
+public class LikesCountBuffer {
+
+    private final PinRepository pinRepository;
+    private final UserStatsRepository userStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean reconcileOnStartup;
+
+    // 핀 ID → 아직 DB 에 반영되지 않은 증감
+    // 반영한 항목은 sumThenReset 으로 0 으로 되돌리고, 한 주기 동안 증감이 없던 항목만 flushLock 안에서 정리
+    // (정리와 동시에 더해진 증감은 addNow 가 새 항목에 다시 더함)
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    // 증감 반영과 재계산이 동시에 돌면 같은 증감이 두 번 더해질 수 있어 순서대로 실행
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LikesCountBuffer(
+            PinRepository pinRepository,
+            UserStatsRepository userStatsRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${custom.likes.reconcileOnStartup:true}") boolean reconcileOnStartup
+    ) {
+        this.pinRepository = pinRepository;
+        this.userStatsRepository = userStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    /**
+     * 좋아요 증감 등록
+     * 트랜잭션 안이면 커밋 이후에만 반영 (롤백된 좋아요는 세지 않음)
+     */
+    public void add(Long pinId, int delta) {
+        if (delta == 0) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(pinId, delta);
+                }
+            });
+            return;
+        }
+        addNow(pinId, delta);
+    }
+
+    /** 아직 반영되지 않은 증감 조회 */
+    public long pending(Long pinId) {
+        LongAdder adder = pendingDeltas.get(pinId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /** 모인 증감을 pins.like_count 에 반영 */
+    @Scheduled(fixedDelayString = "${custom.likes.flushIntervalMs:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 남은 증감을 반영한 뒤 다음 반영을 막은 상태로 작업 실행
+     * likes 테이블 기준으로 다시 계산하는 작업이 버퍼의 증감과 겹치지 않도록 할 때 사용
+     */
+    public void flushAndRun(Runnable task) {
+        flushAndGet(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /** flushAndRun 과 같고 작업 결과를 반환 */
+    public <T> T flushAndGet(Supplier<T> task) {
+        flushLock.lock();
+        try {
+            flushPending();
+            return task.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * pins.like_count 를 likes 테이블 기준으로 다시 맞춤 (증감 누락·중복으로 어긋난 값 보정)
+     * 남은 증감은 버리지 않고 먼저 반영한다. (같은 UPDATE 에서 user_stats.likes_received 도 함께 반영되므로)
+     */
+    @Scheduled(
+            initialDelayString = "${custom.likes.reconcileIntervalMs:3600000}",
+            fixedDelayString = "${custom.likes.reconcileIntervalMs:3600000}"
+    )
+    public void reconcile() {
+        flushAndRun(() -> {
+            int updated = pinRepository.refreshAllLikeCounts();
+            log.info("좋아요 수 재계산 완료 - {}건", updated);
+        });
+    }
+
+    /** 기동 시 좋아요 수 재계산 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) reconcile();
+    }
+
+    /** 종료 전 남은 증감 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // flushLock 안에서 호출
+    private void flushPending() {
+        List<Long> pinIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        prune();    // 지난 주기 이후 증감이 없던 항목 정리
+        pendingDeltas.forEach((pinId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                pinIds.add(pinId);
+                deltas.add(delta);
+            }
+        });
+
+        if (pinIds.isEmpty()) return;
+
+        try {
+            Long[] pinIdArray = pinIds.toArray(Long[]::new);
+            Long[] deltaArray = deltas.toArray(Long[]::new);
+            transactionTemplate.executeWithoutResult(status -> {
+                pinRepository.applyLikeCountDeltas(pinIdArray, deltaArray);
+                userStatsRepository.applyLikesReceivedDeltas(pinIdArray, deltaArray);
+            });
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            log.warn("좋아요 수 반영 실패 - 다음 주기에 재시도합니다. pins={}", pinIds.size(), e);
+            for (int i = 0; i < pinIds.size(); i++) {
+                addNow(pinIds.get(i), deltas.get(i));
+            }
+        }
+    }
+
+    // flushLock 안에서 호출 : 합이 0 인 항목 제거
+    private void prune() {
+        pendingDeltas.keySet().forEach(pinId ->
+                pendingDeltas.computeIfPresent(pinId, (id, adder) -> adder.sum() == 0 ? null : adder));
+    }
+
+    private void addNow(Long pinId, long delta) {
+        while (true) {
+            LongAdder adder = pendingDeltas.computeIfAbsent(pinId, id -> new LongAdder());
+            adder.add(delta);
+            if (pendingDeltas.get(pinId) == adder) return;
+            // 더하는 사이 prune 으로 항목이 제거됨 → 제거된 항목의 증감은 반영되지 않으므로 새 항목에 다시 더함
+        }
+    }
+}
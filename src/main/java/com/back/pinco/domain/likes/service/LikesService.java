@@ -6,28 +6,43 @@ import com.back.pinco.domain.likes.dto.PinsLikedByUserResponse;
 import com.back.pinco.domain.likes.entity.Likes;
 import com.back.pinco.domain.likes.repository.LikesRepository;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.event.PinActivityEvent;
 import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.pin.service.PinReadService;
+import com.back.pinco.domain.pin.service.PinTrendingIndex;
+import com.back.pinco.domain.tag.dto.TagDto;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.page.CursorPage;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LikesService {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final LikesRepository likesRepository;
     private final PinRepository pinRepository;
     private final UserRepository userRepository;
     private final EntityManager entityManager;
+    private final PinReadService pinReadService;
+    private final LikesCountBuffer likesCountBuffer;
+    private final PinTrendingIndex pinTrendingIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -39,30 +54,53 @@ public class LikesService {
     }
 
 
+    /**
+     * 좋아요 등록/취소
+     * pins.like_count 는 LikesCountBuffer 가 모아서 반영하므로 여기서는 증감만 등록한다.
+     * 증감은 미리 읽은 is_liked 가 아니라 조건부 UPDATE 로 실제 바뀐 행 수로 정한다. (연속 탭이 동시에 들어와도 한 번만 셈)
+     * 처음 누르는 좋아요는 (user_id, pin_id) 유니크 제약으로 한 건만 저장된다.
+     */
     @Transactional
     public PinLikesResponse changeLikes(Long pinId, Long userId, boolean isLiked) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.LIKES_INVALID_USER_INPUT));
+        if (!userRepository.existsById(userId)) {
+            throw new ServiceException(ErrorCode.LIKES_INVALID_USER_INPUT);
+        }
+        User user = userRepository.getReferenceById(userId);
 
         Pin pin = pinRepository.findAccessiblePinById(pinId, userId)
                 .orElseThrow(() -> new ServiceException(ErrorCode.LIKES_INVALID_PIN_INPUT));
 
-        Likes likes = likesRepository.save(toggleLikes(isLiked, pin, user));
+        Optional<Likes> existing = likesRepository.findByPinIdAndUserId(pinId, userId);
+
+        boolean liked;
+        int delta;
+        if (existing.isPresent()) {
+            int changed = toggleLikes(isLiked, existing.get());
+            liked = isLiked;
+            delta = isLiked ? changed : -changed;
+        } else {
+            liked = likesRepository.save(new Likes(user, pin)).getLiked();
+            delta = liked ? 1 : 0;
+        }
 
         try {
-            updatePinLikeCount(pin);
-            return new PinLikesResponse(likes.getLiked(), getLikesCount(pinId));
+            likesCountBuffer.add(pinId, delta);
+            pinTrendingIndex.record(pin, delta * PinTrendingIndex.LIKE_WEIGHT);
+            int likeCount = (int) Math.max(pin.getLikeCount() + likesCountBuffer.pending(pinId) + delta, 0);
+            if (delta != 0) eventPublisher.publishEvent(PinActivityEvent.likeCountChanged(pin, likeCount));
+            return new PinLikesResponse(liked, likeCount);
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.LIKES_UPDATE_PIN_FAILED);
         }
     }
 
 
-    private Likes toggleLikes(boolean isLiked, Pin pin, User user) {
+    // 기존 좋아요 변경 (바뀐 행 수 반환)
+    private int toggleLikes(boolean isLiked, Likes like) {
         try {
-            return likesRepository.findByPinIdAndUserId(pin.getId(), user.getId())
-                    .map(like -> like.toggleLike(isLiked))
-                    .orElse(new Likes(user, pin));
+            int changed = likesRepository.updateLikedIfChanged(like.getId(), isLiked, LocalDateTime.now());
+            entityManager.detach(like);    // 예전 값이 남은 엔티티를 같은 트랜잭션에서 다시 읽지 않도록
+            return changed;
         } catch (Exception e) {
             if (isLiked) {
                 throw new ServiceException(ErrorCode.LIKES_CREATE_FAILED);
@@ -76,58 +114,91 @@ public class LikesService {
     /**
      * 해당 핀을 좋아요 누른 유저 ID 목록 전달
      */
+    @Transactional(readOnly = true)
     public List<PinLikedUserResponse> getUsersWhoLikedPin(Long pinId) {
         if (!pinRepository.existsById(pinId)) {
             throw new ServiceException(ErrorCode.LIKES_INVALID_PIN_INPUT);
         }
 
-        return likesRepository.findUsersByPinIdAndLikedTrue(pinId)
+        return likesRepository.findLikesByPinId(pinId, Long.MAX_VALUE, Limit.unlimited())
                 .stream()
-                .map(PinLikedUserResponse::formEntry)
+                .map(likes -> PinLikedUserResponse.formEntry(likes.getUser()))
                 .toList();
     }
 
+    /**
+     * 해당 핀을 좋아요 누른 유저 목록 전달 (최신순, 커서 페이지)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PinLikedUserResponse> getUsersWhoLikedPin(Long pinId, User actor, String cursor, int limit) {
+        validateLimit(limit);
+        boolean visible = actor == null
+                ? pinRepository.findPublicPinById(pinId).isPresent()
+                : pinRepository.findAccessiblePinById(pinId, actor.getId()).isPresent();
+        if (!visible) {
+            throw new ServiceException(ErrorCode.LIKES_INVALID_PIN_INPUT);
+        }
+
+        List<Likes> likes = likesRepository.findLikesByPinId(pinId, parseCursor(cursor), Limit.of(limit + 1));
+        CursorPage<Likes> page = CursorPage.of(likes, limit, like -> String.valueOf(like.getId()));
+        return new CursorPage<>(
+                page.content().stream().map(like -> PinLikedUserResponse.formEntry(like.getUser())).toList(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
+
     /**
      * 특정 사용자가 좋아요 누른 핀 목록 전달
      */
+    @Transactional(readOnly = true)
     public List<PinsLikedByUserResponse> getPinsLikedByUser(Long userId) {
         if (!userRepository.existsById(userId)) {
             throw new ServiceException(ErrorCode.LIKES_INVALID_USER_INPUT);
         }
 
-        return likesRepository.findPinsByUserIdAndLikedTrue(userId)
-                .stream()
-                .filter(pin -> pin.getUser().getId().equals(userId) || pin.getIsPublic())
-                .map(PinsLikedByUserResponse::formEntry)
-                .toList();
+        return toLikedPinResponses(likesRepository.findVisibleLikesByUserId(userId, Long.MAX_VALUE, Limit.unlimited()));
     }
 
-    /**탈퇴한 사용자의 좋아요 취소 */
-    @Transactional
-    public void updateDeleteUserLikedFalse(Long userId) {
-        // 핀 조회
-        List<Pin> likedPins = likesRepository.findPinsByUserIdAndLikedTrue(userId);
-
-        if (likedPins.isEmpty()) return;
+    /**
+     * 특정 사용자가 좋아요 누른 핀 목록 전달 (최신순, 커서 페이지)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PinsLikedByUserResponse> getPinsLikedByUser(Long userId, String cursor, int limit) {
+        validateLimit(limit);
+        if (!userRepository.existsById(userId)) {
+            throw new ServiceException(ErrorCode.LIKES_INVALID_USER_INPUT);
+        }
 
-        try {
-            likesRepository.updateLikedByUserId(userId);
+        List<Likes> likes = likesRepository.findVisibleLikesByUserId(userId, parseCursor(cursor), Limit.of(limit + 1));
+        CursorPage<Likes> page = CursorPage.of(likes, limit, like -> String.valueOf(like.getId()));
+        return new CursorPage<>(toLikedPinResponses(page.content()), page.nextCursor(), page.hasNext());
+    }
 
-            List<Pin> updatedPins = likedPins
-                    .stream()
-                    .map(pin -> updatePinLikeCount(pin))
-                    .toList();
+    // 핀 태그는 한 번에 조회
+    private List<PinsLikedByUserResponse> toLikedPinResponses(List<Likes> likes) {
+        List<Pin> pins = likes.stream().map(Likes::getPin).toList();
+        Map<Long, List<TagDto>> tagsByPinId = pinReadService.findTagsByPinIds(pins.stream().map(Pin::getId).toList());
+        return pins.stream()
+                .map(pin -> PinsLikedByUserResponse.formEntry(pin, tagsByPinId.getOrDefault(pin.getId(), List.of())))
+                .toList();
+    }
 
-            pinRepository.saveAll(updatedPins);
-        } catch (Exception e) {
-            throw new ServiceException(ErrorCode.LIKES_UPDATE_PIN_FAILED);
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
         }
     }
 
-    @Transactional
-    public Pin updatePinLikeCount(Pin pin) {
-        int likesCount = getLikesCount(pin.getId());
-        pin.setLikeCount(likesCount);
-        return pin;
+    // 커서는 마지막으로 내려간 좋아요 ID (없으면 첫 페이지)
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return Long.MAX_VALUE;
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new ServiceException(ErrorCode.INVALID_CURSOR);
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,26 +5,41 @@ import com.back.pinco.domain.bookmark.dto.addBookmarkRequest;
 import com.back.pinco.domain.bookmark.service.BookmarkService;
 import com.back.pinco.domain.likes.dto.*;
 import com.back.pinco.domain.likes.service.LikesService;
+import com.back.pinco.domain.pin.dto.CreatePinBatchRequest;
+import com.back.pinco.domain.pin.dto.CreatePinBatchResponse;
 import com.back.pinco.domain.pin.dto.CreatePinRequest;
+import com.back.pinco.domain.pin.dto.PinCalendarDayDto;
+import com.back.pinco.domain.pin.dto.PinChangesResponse;
+import com.back.pinco.domain.pin.dto.PinClusterDto;
 import com.back.pinco.domain.pin.dto.PinDto;
 import com.back.pinco.domain.pin.dto.UpdatePinContentRequest;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.service.PinReadService;
 import com.back.pinco.domain.pin.service.PinService;
+import com.back.pinco.domain.pin.service.PinStreamHub;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.service.UserService;
+import com.back.pinco.global.page.CursorPage;
 import com.back.pinco.global.rq.Rq;
 import com.back.pinco.global.rsData.RsData;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Tag(name = "Pin", description = "pin(장소) 관리 기능")
 @RestController
@@ -34,6 +49,10 @@ public class PinController {
 
     private final PinService pinService;
 
+    private final PinReadService pinReadService;
+
+    private final PinStreamHub pinStreamHub;
+
     private final UserService userService;
 
     private final BookmarkService bookmarkService;
@@ -42,6 +61,8 @@ public class PinController {
 
     private final Rq rq;
 
+    private final ObjectMapper objectMapper;
+
 
     //생성
     @Operation(summary = "핀 생성", description = "사용자의 위치와 설명을 받아 핀을 생성")
@@ -58,6 +79,19 @@ public class PinController {
         );
     }
 
+    //일괄 생성
+    @Operation(summary = "핀 일괄 생성", description = "다른 지도 앱에서 가져온 핀을 태그와 함께 한 번에 생성 (최대 2000건)")
+    @PostMapping("/batch")
+    public RsData<CreatePinBatchResponse> createPins(@Valid @RequestBody CreatePinBatchRequest pinReqbody) {
+        User actor = rq.getActor();
+        List<Long> pinIds = pinService.writeBatch(actor, pinReqbody.pins());
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                new CreatePinBatchResponse(pinIds.size(), pinIds)
+        );
+    }
+
     //조회
     //id로 조회
     @Operation(summary = "핀 조회 - 단건 (pinId)", description = "핀의 ID로 핀을 단건 조회")
@@ -91,9 +125,67 @@ public class PinController {
         User actor = rq.getActor();
         List<Pin> pins = pinService.findNearPins(latitude, longitude, radius, actor);
 
-        List<PinDto> pinDtos = pins.stream()
-                .map(PinDto::new)
-                .collect(Collectors.toList());
+        List<PinDto> pinDtos = pinReadService.toDtos(pins);
+
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinDtos
+        );
+    }
+
+    //내용 검색 (범위 내)
+    @Operation(summary = "핀 검색 (범위)", description = "범위 안의 핀을 내용으로 검색해 관련도 순으로 조회")
+    @GetMapping("/search")
+    public RsData<List<PinDto>> searchPins(
+            @NotBlank
+            @RequestParam String q,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latitude,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "1000.0") double radius,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        User actor = rq.getActor();
+        List<Pin> pins = pinService.searchNearPins(q, latitude, longitude, radius, limit, actor);
+
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinReadService.toDtos(pins)
+        );
+    }
+
+    //화면 영역으로 조회
+    @Operation(summary = "핀 조회 - 다건 (화면 영역)", description = "지도 화면 영역(bbox)에 포함된 핀을 다건 조회")
+    @GetMapping("/bbox")
+    public RsData<List<PinDto>> getBoundingBoxPins(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double minLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double minLng,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double maxLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double maxLng
+    ) {
+        User actor = rq.getActor();
+        List<Pin> pins = pinService.findPinsInBoundingBox(minLat, minLng, maxLat, maxLng, actor);
+
+        List<PinDto> pinDtos = pinReadService.toDtos(pins);
 
         return new RsData<>(
                 "200",
@@ -102,6 +194,126 @@ public class PinController {
         );
     }
 
+    //화면 영역 변경 피드
+    @Operation(summary = "핀 변경 조회 (화면 영역)", description = "since 이후 화면 영역에서 생성/수정된 핀과 삭제/비공개 전환된 핀 ID 를 조회. 응답의 nextToken 을 다음 요청의 since 로 사용")
+    @GetMapping("/changes")
+    public RsData<PinChangesResponse> getPinChanges(
+            @RequestParam(required = false) String since,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double minLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double minLng,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double maxLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double maxLng,
+            @RequestParam(defaultValue = "200") int limit
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findChanges(actor, since, minLat, minLng, maxLat, maxLng, limit)
+        );
+    }
+
+    //화면 영역 실시간 구독 (SSE)
+    @Operation(summary = "핀 활동 구독 (화면 영역, SSE)", description = "화면 영역의 pin-created, pin-updated, visibility-changed, like-count-changed 이벤트를 Server-Sent Events 로 수신")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPins(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double minLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double minLng,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double maxLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double maxLng
+    ) {
+        User actor = rq.getActor();
+        return pinStreamHub.subscribe(actor == null ? null : actor.getId(), minLat, minLng, maxLat, maxLng);
+    }
+
+    //화면 영역 인기 핀 조회
+    @Operation(summary = "인기 핀 조회 (화면 영역)", description = "최근 좋아요/북마크를 시간 감쇠 점수로 합산해 화면 영역의 인기 공개 핀을 조회")
+    @GetMapping("/trending")
+    public RsData<List<PinDto>> getTrendingPins(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double minLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double minLng,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double maxLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double maxLng,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<Pin> pins = pinService.findTrendingPins(minLat, minLng, maxLat, maxLng, limit);
+
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinReadService.toDtos(pins)
+        );
+    }
+
+    //화면 영역 클러스터 조회
+    @Operation(summary = "핀 클러스터 조회 (화면 영역+줌)", description = "지도 축소 시 화면 영역의 핀을 격자 단위 클러스터로 묶어 조회")
+    @GetMapping("/clusters")
+    public RsData<List<PinClusterDto>> getClusters(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double minLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double minLng,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double maxLat,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double maxLng,
+            @NotNull
+            @Min(0)
+            @Max(20)
+            @RequestParam int zoom
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findClusters(minLat, minLng, maxLat, maxLng, zoom, actor)
+        );
+    }
+
     //사용자로 조회
     @Operation(summary = "핀 조회 - 다건 (작성자+연도+월)", description = "작성자로 핀을 다건 조회")
     @GetMapping("/user/{userId}/date")
@@ -118,9 +330,7 @@ public class PinController {
         User actor = rq.getActor();
         User writer = userService.findById(userId);
         List<Pin> pins = pinService.findByUserIdDate(actor, writer,year,month);
-        List<PinDto> pinDtos = pins.stream()
-                .map(PinDto::new)
-                .collect(Collectors.toList());
+        List<PinDto> pinDtos = pinReadService.toDtos(pins);
         return new RsData<>(
                 "200",
         "성공적으로 처리되었습니다",
@@ -128,6 +338,24 @@ public class PinController {
         );
     }
 
+    //사용자로, 연도별 달력 조회
+    @Operation(summary = "핀 달력 조회 (작성자+연도)", description = "작성자가 해당 연도에 작성한 핀 개수를 일자별로 조회")
+    @GetMapping("/user/{userId}/calendar")
+    public RsData<List<PinCalendarDayDto>> getUserPinCalendar(
+            @NotNull
+            @PathVariable Long userId,
+            @NotNull
+            @RequestParam int year
+    ){
+        User actor = rq.getActor();
+        User writer = userService.findById(userId);
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findCalendarByUserId(actor, writer, year)
+        );
+    }
+
     //사용자로, 날짜로 조회
     @Operation(summary = "핀 조회 - 다건 (작성자)", description = "작성자로 핀을 다건 조회")
     @GetMapping("/user/{userId}")
@@ -138,9 +366,7 @@ public class PinController {
         User actor = rq.getActor();
         User writer = userService.findById(userId);
         List<Pin> pins = pinService.findByUserId(actor, writer);
-        List<PinDto> pinDtos = pins.stream()
-                .map(PinDto::new)
-                .collect(Collectors.toList());
+        List<PinDto> pinDtos = pinReadService.toDtos(pins);
         return new RsData<>(
                 "200",
                 "성공적으로 처리되었습니다",
@@ -155,10 +381,7 @@ public class PinController {
         User actor = rq.getActor();
         List<Pin> pins = pinService.findAll(actor);
 
-        List<PinDto> pinDtos = pins.stream()
-                .map(PinDto::new)
-                .toList();
-
+        List<PinDto> pinDtos = pinReadService.toDtos(pins);
 
         return new RsData<>(
                 "200",
@@ -167,6 +390,39 @@ public class PinController {
         );
     }
 
+    //전부 조회 - 커서 페이지
+    @Operation(summary = "핀 조회 - 다건 (all, 커서)", description = "after 이후의 핀을 pinId 순으로 limit 건 조회")
+    @GetMapping(value = "/all", params = "limit")
+    public RsData<CursorPage<PinDto>> getAllByCursor(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam int limit
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findAllAfter(actor, after, limit)
+        );
+    }
+
+    //전부 조회 - NDJSON 스트리밍
+    @Operation(summary = "핀 조회 - 다건 (all, 스트리밍)", description = "모든 핀을 한 줄에 하나씩 NDJSON 으로 스트리밍")
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        User actor = rq.getActor();
+        StreamingResponseBody body = out -> pinService.streamAll(actor, pinDto -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(pinDto));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     //수정
     //핀 내용 수정
     @Operation(summary = "핀 수정 - 내용 (pinId)", description = "핀의 내용(Content)을 수정")
@@ -257,6 +513,22 @@ public class PinController {
     }
 
 
+    // 해당 핀을 좋아요 누른 유저 목록 (커서 페이지)
+    @Operation(summary = "핀 좋아요 사용자 조회 - pinId (커서 페이지)", description = "핀을 좋아요한 사용자를 최신순으로 limit 건씩 조회")
+    @GetMapping(value = "{pinId}/likesusers", params = "limit")
+    public RsData<CursorPage<PinLikedUserResponse>> getUsersWhoLikedPinByCursor(
+            @PathVariable("pinId") Long pinId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                likesService.getUsersWhoLikedPin(pinId, actor, cursor, limit)
+        );
+    }
+
     // 해당 핀 북마크 추가
     @Operation(summary = "핀 북마크 등록 - pinId", description = "핀을 id로 조회하여 북마크에 등록")
     @PostMapping("{pinId}/bookmarks")
@@ -0,0 +1,42 @@
+package com.back.pinco.domain.pin.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+/**
+ * 핀 일괄 생성 요청 (다른 지도 앱에서 가져오기용)
+ * @param pins 생성할 핀 목록 (최대 MAX_SIZE 건)
+ */
+public record CreatePinBatchRequest(
+        @NotEmpty
+        @Size(max = CreatePinBatchRequest.MAX_SIZE)
+        List<@Valid Item> pins
+) {
+    public static final int MAX_SIZE = 2000;
+
+    /**
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param content 내용
+     * @param tags 태그 키워드 (선택)
+     */
+    public record Item(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            Double latitude,
+
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            Double longitude,
+
+            @NotBlank
+            String content,
+
+            List<String> tags
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.back.pinco.domain.pin.dto;
+
+import java.util.List;
+
+/**
+ * 핀 일괄 생성 결과
+ * @param createdCount 생성된 핀 수
+ * @param pinIds 생성된 핀 ID (요청 순서)
+ */
+public record CreatePinBatchResponse(
+        int createdCount,
+        List<Long> pinIds
+) {
+}
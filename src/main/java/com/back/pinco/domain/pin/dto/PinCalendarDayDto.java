@@ -0,0 +1,14 @@
+package com.back.pinco.domain.pin.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 달력 표시용 일자별 핀 개수
+ * @param date 작성일
+ * @param count 해당 일자에 작성된 핀 수
+ */
+public record PinCalendarDayDto(
+        LocalDate date,
+        Long count
+) {
+}
@@ -0,0 +1,18 @@
+package com.back.pinco.domain.pin.dto;
+
+import java.util.List;
+
+/**
+ * 핀 변경 피드 응답
+ * @param changed 생성/수정된 핀 (볼 수 있는 핀만)
+ * @param removed 삭제되었거나 비공개로 바뀌어 더 이상 볼 수 없는 핀 ID (클라이언트에서 지움)
+ * @param nextToken 다음 요청의 since 로 그대로 전달할 값
+ * @param hasMore 같은 시점까지 남은 변경이 더 있는지 (true 면 nextToken 으로 바로 이어서 요청)
+ */
+public record PinChangesResponse(
+        List<PinDto> changed,
+        List<Long> removed,
+        String nextToken,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,20 @@
+package com.back.pinco.domain.pin.dto;
+
+import java.util.List;
+
+/**
+ * 지도 축소 시 사용하는 핀 클러스터
+ * @param latitude 클러스터 중심 위도
+ * @param longitude 클러스터 중심 경도
+ * @param count 클러스터에 포함된 핀 개수
+ * @param topTags 많이 사용된 태그 키워드
+ * @param samplePinIds 좋아요 순 대표 핀 ID
+ */
+public record PinClusterDto(
+        Double latitude,
+        Double longitude,
+        long count,
+        List<String> topTags,
+        List<Long> samplePinIds
+) {
+}
@@ -22,16 +22,24 @@ public record PinDto(
         LocalDateTime modifiedAt
 ) {
     public PinDto(Pin pin) {
+        this(
+                pin,
+                pin.getPinTags().stream()
+                        .map(PinTag::getTag)
+                        .map(tag -> new TagDto(tag.getId(), tag.getKeyword(), tag.getCreatedAt()))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    // 태그를 미리 조회해 둔 경우 (목록 조회 시 pinTags 지연 로딩 방지)
+    public PinDto(Pin pin, List<TagDto> pinTags) {
         this(
                 pin.getId(),
                 pin.getPoint().getY(),
                 pin.getPoint().getX(),
                 pin.getContent(),
                 pin.getUser().getId(),
-                pin.getPinTags().stream()
-                        .map(PinTag::getTag)
-                        .map(tag -> new TagDto(tag.getId(), tag.getKeyword(), tag.getCreatedAt()))
-                        .collect(Collectors.toList()),
+                pinTags,
                 pin.getLikeCount(),
                 pin.getIsPublic(),
                 pin.getCreatedAt(),
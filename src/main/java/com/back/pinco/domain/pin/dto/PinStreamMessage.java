@@ -0,0 +1,21 @@
+package com.back.pinco.domain.pin.dto;
+
+import com.back.pinco.domain.pin.event.PinActivityEvent;
+
+/**
+ * /api/pins/stream 으로 내려가는 이벤트 본문
+ * @param pinId 핀 ID
+ * @param isPublic 공개 여부 (visibility-changed 에서 false 면 지도에서 지움)
+ * @param pin 핀 내용 (pin-created, pin-updated, 공개 전환 시)
+ * @param likeCount 좋아요 수 (like-count-changed 시)
+ */
+public record PinStreamMessage(
+        Long pinId,
+        boolean isPublic,
+        PinDto pin,
+        Integer likeCount
+) {
+    public PinStreamMessage(PinActivityEvent event) {
+        this(event.pinId(), event.isPublic(), event.pin(), event.likeCount());
+    }
+}
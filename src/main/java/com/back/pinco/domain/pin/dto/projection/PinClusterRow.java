@@ -0,0 +1,13 @@
+package com.back.pinco.domain.pin.dto.projection;
+
+/**
+ * 격자 셀 단위 핀 집계 결과 (native query projection)
+ */
+public interface PinClusterRow {
+    Double getCellX();          // 경도 방향 셀 번호
+    Double getCellY();          // 위도 방향 셀 번호
+    Double getLatitude();       // 셀 내 핀 위도 평균
+    Double getLongitude();      // 셀 내 핀 경도 평균
+    Long getPinCount();         // 셀 내 핀 개수
+    String getSamplePinIds();   // 좋아요 순 상위 핀 ID (쉼표 구분)
+}
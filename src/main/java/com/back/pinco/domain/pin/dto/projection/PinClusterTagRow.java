@@ -0,0 +1,11 @@
+package com.back.pinco.domain.pin.dto.projection;
+
+/**
+ * 격자 셀 단위 태그 사용 횟수 (native query projection)
+ */
+public interface PinClusterTagRow {
+    Double getCellX();
+    Double getCellY();
+    String getKeyword();
+    Long getTagCount();
+}
@@ -0,0 +1,10 @@
+package com.back.pinco.domain.pin.dto.projection;
+
+/**
+ * 핀 ID 와 좌표만 담은 조회 결과 (native query projection)
+ */
+public interface PinPointRow {
+    Long getId();               // 핀 ID
+    Double getLatitude();       // 위도
+    Double getLongitude();      // 경도
+}
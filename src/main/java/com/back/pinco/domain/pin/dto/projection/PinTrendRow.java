@@ -0,0 +1,11 @@
+package com.back.pinco.domain.pin.dto.projection;
+
+/**
+ * 핀 ID, 좌표와 현재 시각 기준으로 감쇠한 인기 점수 (native query projection)
+ */
+public interface PinTrendRow {
+    Long getId();               // 핀 ID
+    Double getLatitude();       // 위도
+    Double getLongitude();      // 경도
+    Double getScore();          // 인기 점수
+}
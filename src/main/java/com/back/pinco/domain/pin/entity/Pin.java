@@ -5,6 +5,7 @@ import com.back.pinco.domain.tag.entity.PinTag;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.global.geometry.GeometryUtil;
 import com.back.pinco.global.jpa.entity.BaseEntity;
+import com.back.pinco.global.search.SearchTokenizer;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,8 +21,7 @@ import java.util.List;
 @NoArgsConstructor
 @Getter
 @Table(
-        name = "pins",
-        indexes = @Index(name = "idx_pin_point", columnList = "point")
+        name = "pins"    // 인덱스(공간 GiST, 삭제 제외 부분 인덱스 등)는 db/migration 에서 관리
 )
 @EntityListeners(AuditingEntityListener.class)
 @SequenceGenerator(
@@ -42,6 +43,11 @@ public class Pin extends BaseEntity{
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;    // 내용
 
+    // 검색 토큰 (content 를 SearchTokenizer 로 변환, search_vector 생성 컬럼과 GIN 인덱스는 db/migration 에서 생성)
+    @Column(name = "search_tokens", columnDefinition = "TEXT")
+    @JsonIgnore
+    private String searchTokens;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;    // 작성자
@@ -53,21 +59,38 @@ public class Pin extends BaseEntity{
     @Column(name = "like_count", nullable = false)
     private int likeCount = 0;    // 좋아요 수
 
+    // 인기 점수 (trend_scored_at 기준 값, PinTrendingIndex 가 주기적으로 일괄 저장하므로 엔티티로는 쓰지 않음)
+    @Column(name = "trend_score", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "double precision default 0")
+    @JsonIgnore
+    private double trendScore;
+
+    @Column(name = "trend_scored_at", insertable = false, updatable = false)
+    @JsonIgnore
+    private LocalDateTime trendScoredAt;
+
     @Column(name = "is_public", nullable = false)
     private Boolean isPublic = true;    // 공개 여부
 
     @Column(name = "is_deleted", nullable = false)
     private Boolean deleted = false;    // 삭제 여부
 
+    // 다른 사용자에게 보이지 않게 된 시각 (공개 핀의 비공개 전환/삭제, 변경 피드의 삭제 표시 기준)
+    @Column(name = "hidden_at")
+    @JsonIgnore
+    private LocalDateTime hiddenAt;
+
 
     public Pin(Point point, User user, String content) {
         this.point = point;
         this.user = user;
         this.content  = content;
+        this.searchTokens = SearchTokenizer.tokenize(content);
     }
 
     // 소프트 삭제
     public void setDeleted() {
+        if (this.isPublic && !this.deleted) this.hiddenAt = LocalDateTime.now();
         this.deleted = true;
     }
 //삭제 복구
@@ -78,10 +101,12 @@ public class Pin extends BaseEntity{
     // 공개 여부 변경
     public void togglePublic() {
         this.isPublic = !this.isPublic;
+        this.hiddenAt = this.isPublic ? null : LocalDateTime.now();
     }
 
     public void update(UpdatePinContentRequest updatePinContentRequest) {
         this.content= updatePinContentRequest.content();
+        this.searchTokens = SearchTokenizer.tokenize(this.content);
         //추가로 수정 할 수 있는 필드가 있다면 여기 추가
     }
 
@@ -0,0 +1,74 @@
+package com.back.pinco.domain.pin.event;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.entity.Pin;
+
+/**
+ * 핀 활동 이벤트 (커밋 이후 /api/pins/stream 구독자에게 전달)
+ * @param type 이벤트 종류
+ * @param pinId 핀 ID
+ * @param ownerId 작성자 ID (비공개 핀 이벤트는 작성자에게만 전달)
+ * @param latitude 위도 (구독 영역 판단)
+ * @param longitude 경도 (구독 영역 판단)
+ * @param isPublic 변경 후 모든 사용자가 볼 수 있는지 (삭제되었으면 false)
+ * @param pin 생성/수정/공개 전환 시 핀 내용 (그 외 null)
+ * @param likeCount 좋아요 수 변경 시 새 값 (그 외 null)
+ */
+public record PinActivityEvent(
+        Type type,
+        Long pinId,
+        Long ownerId,
+        double latitude,
+        double longitude,
+        boolean isPublic,
+        PinDto pin,
+        Integer likeCount
+) {
+    public enum Type {
+        PIN_CREATED("pin-created"),
+        PIN_UPDATED("pin-updated"),
+        VISIBILITY_CHANGED("visibility-changed"),
+        LIKE_COUNT_CHANGED("like-count-changed");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        /** SSE event 이름 */
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    public static PinActivityEvent created(Pin pin, PinDto dto) {
+        return of(Type.PIN_CREATED, pin, dto, null);
+    }
+
+    public static PinActivityEvent updated(Pin pin, PinDto dto) {
+        return of(Type.PIN_UPDATED, pin, dto, null);
+    }
+
+    // 비공개 전환/삭제 시 dto 는 null
+    public static PinActivityEvent visibilityChanged(Pin pin, PinDto dto) {
+        return of(Type.VISIBILITY_CHANGED, pin, dto, null);
+    }
+
+    public static PinActivityEvent likeCountChanged(Pin pin, int likeCount) {
+        return of(Type.LIKE_COUNT_CHANGED, pin, null, likeCount);
+    }
+
+    private static PinActivityEvent of(Type type, Pin pin, PinDto dto, Integer likeCount) {
+        return new PinActivityEvent(
+                type,
+                pin.getId(),
+                pin.getUser().getId(),
+                pin.getPoint().getY(),
+                pin.getPoint().getX(),
+                pin.getIsPublic() && !pin.getDeleted(),
+                dto,
+                likeCount
+        );
+    }
+}
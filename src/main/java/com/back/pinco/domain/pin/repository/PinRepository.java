@@ -1,17 +1,33 @@
 package com.back.pinco.domain.pin.repository;
 
+import com.back.pinco.domain.pin.dto.PinCalendarDayDto;
+import com.back.pinco.domain.pin.dto.projection.PinClusterRow;
+import com.back.pinco.domain.pin.dto.projection.PinClusterTagRow;
+import com.back.pinco.domain.pin.dto.projection.PinPointRow;
+import com.back.pinco.domain.pin.dto.projection.PinTrendRow;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.global.geometry.GeometryUtil;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PinRepository extends JpaRepository<Pin,Long> {
 
+    int STREAM_FETCH_SIZE = 500;
+
     String BASE_QUERY =
             "SELECT * FROM pins p " +
                     "WHERE ST_DWithin(p.point, ST_SetSRID(ST_MakePoint(:longitude, :latitude), "
@@ -34,8 +50,186 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
             @Param("radiusInMeters") Double radiusInMeters
     );
 
+    // 타일 캐시가 고른 후보 핀 중 반경 안의 공개 핀 (캐시의 구면 거리 대신 DB 와 같은 geography 거리로 판정)
+    @Query(value = BASE_QUERY + "AND is_public = true AND p.pin_id IN (:ids) ORDER BY p.pin_id", nativeQuery = true)
+    List<Pin> findPublicPinsWithinRadiusByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("radiusInMeters") Double radiusInMeters
+    );
+
+    // 반경 내 전문 검색 : search_vector(GIN) 와 point(GiST) 인덱스로 거른 뒤 ts_rank 순 정렬
+    String SEARCH_MATCH =
+            "AND p.search_vector @@ plainto_tsquery('simple', :tokens) ";
+    String SEARCH_ORDER =
+            "ORDER BY ts_rank(p.search_vector, plainto_tsquery('simple', :tokens)) DESC, p.pin_id DESC " +
+                    "LIMIT :limit";
+
+    @Query(value = BASE_QUERY + "AND (p.user_id = :userId OR p.is_public = true) " + SEARCH_MATCH + SEARCH_ORDER, nativeQuery = true)
+    List<Pin> searchPinsWithinRadius(
+            @Param("tokens") String tokens,
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("radiusInMeters") Double radiusInMeters,
+            @Param("userId") Long userId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = BASE_QUERY + "AND p.is_public = true " + SEARCH_MATCH + SEARCH_ORDER, nativeQuery = true)
+    List<Pin> searchPublicPinsWithinRadius(
+            @Param("tokens") String tokens,
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("radiusInMeters") Double radiusInMeters,
+            @Param("limit") int limit
+    );
+
+    // 화면 영역(bbox) 조건 : 경위도 평면 사각형 기준 (point::geometry 식 GiST 인덱스 idx_pin_point_geom)
+    // geography 로 비교하면 사각형 변이 대권 호가 되어 넓은 영역이나 경도 180도 이상 영역에서 어긋난다
+    String BBOX_CONDITION =
+            "ST_Intersects(p.point::geometry, ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, "
+                    + GeometryUtil.SRID +
+                    ")) " +
+                    "AND p.is_deleted = false ";
+
+    String BBOX_QUERY = "SELECT * FROM pins p WHERE " + BBOX_CONDITION;
+
+    @Query(value = BBOX_QUERY + "AND (user_id = :userId OR is_public = true)", nativeQuery = true)
+    List<Pin> findPinsInBoundingBox(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("userId") Long userId
+    );
+
+    @Query(value = BBOX_QUERY + "AND is_public = true", nativeQuery = true)
+    List<Pin> findPublicPinsInBoundingBox(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng
+    );
+
+    // 화면 영역 내 공개 핀의 ID, 좌표만 조회 (타일 캐시 적재용)
+    @Query(value = "SELECT p.pin_id AS \"id\", " +
+            "ST_Y(p.point::geometry) AS \"latitude\", " +
+            "ST_X(p.point::geometry) AS \"longitude\" " +
+            "FROM pins p WHERE " + BBOX_CONDITION + "AND p.is_public = true", nativeQuery = true)
+    List<PinPointRow> findPublicPinPointsInBoundingBox(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng
+    );
+
+    // ID 목록으로 공개 핀 조회 (ID 오름차순)
+    @Query("""
+    SELECT p FROM Pin p
+    WHERE p.id IN :ids
+      AND p.deleted = false
+      AND p.isPublic = true
+    ORDER BY p.id
+""")
+    List<Pin> findPublicPinsByIdIn(@Param("ids") Collection<Long> ids);
+
+
 
 
+    // 격자 클러스터 집계 : 셀 크기(:cellSize, 도 단위)로 좌표를 내림해 묶고, 셀마다 좋아요 상위 5개 핀을 대표로 뽑는다
+    String CLUSTER_QUERY_HEAD = """
+            SELECT c."cellX" AS "cellX",
+                   c."cellY" AS "cellY",
+                   AVG(c.lat) AS "latitude",
+                   AVG(c.lng) AS "longitude",
+                   COUNT(*) AS "pinCount",
+                   string_agg(CASE WHEN c.rn <= 5 THEN CAST(c.pin_id AS text) END, ',' ORDER BY c.rn) AS "samplePinIds"
+            FROM (
+                SELECT FLOOR(ST_X(p.point::geometry) / :cellSize) AS "cellX",
+                       FLOOR(ST_Y(p.point::geometry) / :cellSize) AS "cellY",
+                       ST_Y(p.point::geometry) AS lat,
+                       ST_X(p.point::geometry) AS lng,
+                       p.pin_id,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY FLOOR(ST_X(p.point::geometry) / :cellSize), FLOOR(ST_Y(p.point::geometry) / :cellSize)
+                           ORDER BY p.like_count DESC, p.pin_id
+                       ) AS rn
+                FROM pins p
+                WHERE\s""" + BBOX_CONDITION;
+
+    String CLUSTER_QUERY_TAIL = ") c GROUP BY c.\"cellX\", c.\"cellY\"";
+
+    // 셀별 태그 사용 횟수 상위 :topTags 개 : 순위를 SQL 에서 매겨 셀·태그 조합 전체를 내려받지 않는다
+    String CLUSTER_TAG_QUERY_HEAD = """
+            SELECT r."cellX" AS "cellX",
+                   r."cellY" AS "cellY",
+                   r.keyword AS "keyword",
+                   r.tag_count AS "tagCount"
+            FROM (
+                SELECT c.*,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY c."cellX", c."cellY"
+                           ORDER BY c.tag_count DESC, c.keyword
+                       ) AS rn
+                FROM (
+                    SELECT FLOOR(ST_X(p.point::geometry) / :cellSize) AS "cellX",
+                           FLOOR(ST_Y(p.point::geometry) / :cellSize) AS "cellY",
+                           t.keyword,
+                           COUNT(*) AS tag_count
+                    FROM pins p
+                    JOIN pin_tags pt ON pt.pin_id = p.pin_id AND pt.is_deleted = false
+                    JOIN tags t ON t.tag_id = pt.tag_id
+                    WHERE\s""" + BBOX_CONDITION;
+
+    String CLUSTER_TAG_QUERY_TAIL = """
+                    GROUP BY 1, 2, 3
+                ) c
+            ) r
+            WHERE r.rn <= :topTags
+            ORDER BY r."cellX", r."cellY", r.rn
+            """;
+
+    @Query(value = CLUSTER_QUERY_HEAD + "AND (p.user_id = :userId OR p.is_public = true) " + CLUSTER_QUERY_TAIL, nativeQuery = true)
+    List<PinClusterRow> findClusters(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("cellSize") Double cellSize,
+            @Param("userId") Long userId
+    );
+
+    @Query(value = CLUSTER_QUERY_HEAD + "AND p.is_public = true " + CLUSTER_QUERY_TAIL, nativeQuery = true)
+    List<PinClusterRow> findPublicClusters(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("cellSize") Double cellSize
+    );
+
+    @Query(value = CLUSTER_TAG_QUERY_HEAD + "AND (p.user_id = :userId OR p.is_public = true) " + CLUSTER_TAG_QUERY_TAIL, nativeQuery = true)
+    List<PinClusterTagRow> findClusterTags(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("cellSize") Double cellSize,
+            @Param("userId") Long userId,
+            @Param("topTags") int topTags
+    );
+
+    @Query(value = CLUSTER_TAG_QUERY_HEAD + "AND p.is_public = true " + CLUSTER_TAG_QUERY_TAIL, nativeQuery = true)
+    List<PinClusterTagRow> findPublicClusterTags(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("cellSize") Double cellSize,
+            @Param("topTags") int topTags
+    );
+
 
     // 특정 사용자의 핀 조회
     @Query(value = """
@@ -57,26 +251,59 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
     @Query(value = "SELECT p.* FROM pins p " +
             "WHERE p.is_deleted = false " +
             "AND p.user_id = :userId " +
-            "AND EXTRACT(YEAR FROM p.create_at) = :year " +
-            "AND EXTRACT(MONTH FROM p.create_at) = :month " +
+            "AND p.create_at >= :from AND p.create_at < :to " +
             "AND p.is_public = true",
             nativeQuery = true)
     List<Pin> findPublicByUserDate(
             @Param("userId") Long userId,
-            @Param("year") Integer year,
-            @Param("month") Integer month
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
     @Query(value = "SELECT p.* FROM pins p " +
             "WHERE p.is_deleted = false " +
             "AND p.user_id = :writerId " +
-            "AND EXTRACT(YEAR FROM p.create_at) = :year " +
-            "AND EXTRACT(MONTH FROM p.create_at) = :month " +
+            "AND p.create_at >= :from AND p.create_at < :to " +
             "AND (p.user_id = :actorId OR p.is_public = true)",
             nativeQuery = true)
     List<Pin> findAccessibleByUserDate(
             Long writerId, Long actorId,
-            @Param("year") Integer year,
-            @Param("month") Integer month
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // 작성자의 기간 내 일자별 핀 개수 (달력 표시용, 공개 핀만)
+    @Query("""
+    SELECT new com.back.pinco.domain.pin.dto.PinCalendarDayDto(cast(p.createdAt as LocalDate), count(p))
+    FROM Pin p
+    WHERE p.deleted = false
+      AND p.user.id = :writerId
+      AND p.createdAt >= :from AND p.createdAt < :to
+      AND p.isPublic = true
+    GROUP BY cast(p.createdAt as LocalDate)
+    ORDER BY cast(p.createdAt as LocalDate)
+""")
+    List<PinCalendarDayDto> countPublicByUserPerDay(
+            @Param("writerId") Long writerId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // 작성자의 기간 내 일자별 핀 개수 (달력 표시용, 공개 핀 + 본인 핀)
+    @Query("""
+    SELECT new com.back.pinco.domain.pin.dto.PinCalendarDayDto(cast(p.createdAt as LocalDate), count(p))
+    FROM Pin p
+    WHERE p.deleted = false
+      AND p.user.id = :writerId
+      AND p.createdAt >= :from AND p.createdAt < :to
+      AND (p.user.id = :actorId OR p.isPublic = true)
+    GROUP BY cast(p.createdAt as LocalDate)
+    ORDER BY cast(p.createdAt as LocalDate)
+""")
+    List<PinCalendarDayDto> countAccessibleByUserPerDay(
+            @Param("writerId") Long writerId,
+            @Param("actorId") Long actorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
 
 
@@ -96,6 +323,50 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
 """)
     List<Pin> findAllPublicPins();
 
+    // 전체 핀 커서 조회 (pin_id 오름차순)
+    @Query(value = """
+    SELECT p FROM Pin p
+    WHERE p.deleted = false
+      AND (p.user.id = :userId OR p.isPublic = true)
+      AND p.id > :after
+    ORDER BY p.id
+""")
+    List<Pin> findAccessiblePinsAfter(@Param("userId") Long userId, @Param("after") Long after, Limit limit);
+
+    @Query(value = """
+    SELECT p FROM Pin p
+    WHERE p.deleted = false
+      AND p.isPublic = true
+      AND p.id > :after
+    ORDER BY p.id
+""")
+    List<Pin> findPublicPinsAfter(@Param("after") Long after, Limit limit);
+
+    // 전체 핀 스트리밍 조회 (서버 커서로 fetchSize 만큼씩 읽음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+    SELECT p FROM Pin p
+    WHERE p.deleted = false
+      AND (p.user.id = :userId OR p.isPublic = true)
+    ORDER BY p.id
+""")
+    Stream<Pin> streamAllAccessiblePins(@Param("userId") Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+    SELECT p FROM Pin p
+    WHERE p.deleted = false
+      AND p.isPublic = true
+    ORDER BY p.id
+""")
+    Stream<Pin> streamAllPublicPins();
+
     // id로 핀 조회
     @Query("""
     SELECT p FROM Pin p
@@ -134,8 +405,136 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
         """, nativeQuery = true)
     void refreshLikeCountBatch(@Param("pinIds") Long[] pinIds);
 
+    // DB 에 반영된 좋아요 수 (영속성 컨텍스트를 거치지 않고 조회)
+    @Query(value = "SELECT p.like_count FROM pins p WHERE p.pin_id = :pinId", nativeQuery = true)
+    long findLikeCountById(@Param("pinId") Long pinId);
+
+    // 모든 핀의 좋아요 수를 likes 테이블 기준으로 재계산 (기동 시·주기적 보정용)
+    // 값이 어긋난 핀만 갱신 (주기적으로 돌 때 모든 핀 행을 다시 쓰지 않도록)
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        UPDATE pins p
+        SET like_count = c.cnt
+        FROM (
+          SELECT p2.pin_id, COUNT(l.like_id) AS cnt
+          FROM pins p2
+          LEFT JOIN likes l ON l.pin_id = p2.pin_id AND l.is_liked = TRUE
+          GROUP BY p2.pin_id
+        ) c
+        WHERE p.pin_id = c.pin_id
+          AND p.like_count <> c.cnt
+        """, nativeQuery = true)
+    int refreshAllLikeCounts();
+
+    // 핀별 좋아요 증감을 한 번에 반영 (pinIds[i] 에 deltas[i] 를 더함)
+    @Transactional
     @Modifying
-    @Query("UPDATE Pin p SET p.deleted = true WHERE p.user.id = :userId AND p.deleted = false")
-    int updatePinsToDeletedByUserId(@Param("userId") Long userId);
+    @Query(value = """
+        UPDATE pins p
+        SET like_count = GREATEST(p.like_count + d.delta, 0)
+        FROM unnest(CAST(:pinIds AS bigint[]), CAST(:deltas AS bigint[])) AS d(pin_id, delta)
+        WHERE p.pin_id = d.pin_id
+        """, nativeQuery = true)
+    int applyLikeCountDeltas(@Param("pinIds") Long[] pinIds, @Param("deltas") Long[] deltas);
+
+    // 인기 점수를 기준 시각(scoredAt)의 값으로 저장 (pinIds[i] 의 점수는 scores[i])
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE pins p
+        SET trend_score = s.score, trend_scored_at = :scoredAt
+        FROM unnest(CAST(:pinIds AS bigint[]), CAST(:scores AS double precision[])) AS s(pin_id, score)
+        WHERE p.pin_id = s.pin_id
+        """, nativeQuery = true)
+    int updateTrendScores(
+            @Param("pinIds") Long[] pinIds,
+            @Param("scores") Double[] scores,
+            @Param("scoredAt") LocalDateTime scoredAt
+    );
+
+    // 저장된 인기 점수를 now 기준으로 감쇠 (점수 × 0.5^(경과 시간 / 반감기))
+    String DECAYED_TREND_SCORE =
+            "CAST(p.trend_score * power(0.5, extract(epoch from (CAST(:now AS timestamp) - p.trend_scored_at)) * 1000 / :halfLifeMillis) " +
+                    "AS double precision) ";
+
+    // 공개 핀의 감쇠된 인기 점수 (색인 적재용, minScore 미만은 제외)
+    @Query(value = "SELECT * FROM (" +
+            "SELECT p.pin_id AS \"id\", " +
+            "ST_Y(p.point::geometry) AS \"latitude\", " +
+            "ST_X(p.point::geometry) AS \"longitude\", " +
+            DECAYED_TREND_SCORE + "AS \"score\" " +
+            "FROM pins p " +
+            "WHERE p.trend_score > 0 AND p.trend_scored_at IS NOT NULL " +
+            "AND p.is_public = true AND p.is_deleted = false" +
+            ") t WHERE t.\"score\" >= :minScore", nativeQuery = true)
+    List<PinTrendRow> findPublicTrendScores(
+            @Param("now") LocalDateTime now,
+            @Param("halfLifeMillis") double halfLifeMillis,
+            @Param("minScore") double minScore
+    );
+
+    // 화면 영역 내 인기 공개 핀 (색인이 덮지 못하는 넓은 영역용, 저장된 점수 기준)
+    @Query(value = BBOX_QUERY + "AND p.is_public = true " +
+            "AND p.trend_score > 0 AND p.trend_scored_at IS NOT NULL " +
+            "ORDER BY " + DECAYED_TREND_SCORE + "DESC, p.pin_id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Pin> findTrendingPublicPinsInBoundingBox(
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("now") LocalDateTime now,
+            @Param("halfLifeMillis") double halfLifeMillis,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 탈퇴한 사용자의 핀을 chunkSize 건씩 소프트 삭제
+     * @return 삭제된 핀 ID 목록 (chunkSize 보다 적으면 남은 핀 없음)
+     */
+    @Transactional
+    @Query(value = """
+        WITH deleted AS (
+          UPDATE pins SET is_deleted = TRUE, modified_at = :now,
+            hidden_at = CASE WHEN is_public THEN :now ELSE hidden_at END    -- 공개 핀만 새로 숨겨짐
+          WHERE pin_id IN (
+            SELECT pin_id FROM pins
+            WHERE user_id = :userId AND is_deleted = FALSE
+            LIMIT :chunkSize
+          )
+          AND is_deleted = FALSE    -- 동시에 실행된 정리와 같은 행을 두 번 세지 않도록 잠금 후 다시 확인
+          RETURNING pin_id
+        )
+        SELECT pin_id FROM deleted
+        """, nativeQuery = true)
+    List<Long> softDeleteByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
+
+    // 수정 시각만 갱신 (태그 연결 변경처럼 핀 행은 그대로지만 변경 피드에 나와야 하는 경우)
+    @Modifying
+    @Query("UPDATE Pin p SET p.modifiedAt = :now WHERE p.id = :pinId")
+    int touchModifiedAt(@Param("pinId") Long pinId, @Param("now") LocalDateTime now);
+
+    // 변경 피드 : (수정 시각, ID) 가 (since, sinceId) 이후이고 until 이전인 화면 영역 내 핀
+    // 삭제/비공개 핀도 포함 (호출 측에서 since 이후 볼 수 없게 된 핀만 삭제 표시로 내려줌), idx_pin_modified 범위 조회 후 좌표로 거름
+    @Query(value = """
+        SELECT * FROM pins p
+        WHERE (p.modified_at, p.pin_id) > (CAST(:since AS timestamp), :sinceId)
+          AND p.modified_at <= :until
+          AND ST_Y(p.point::geometry) BETWEEN :minLat AND :maxLat
+          AND ST_X(p.point::geometry) BETWEEN :minLng AND :maxLng
+        ORDER BY p.modified_at, p.pin_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Pin> findChangesInBoundingBox(
+            @Param("since") LocalDateTime since,
+            @Param("sinceId") Long sinceId,
+            @Param("until") LocalDateTime until,
+            @Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("limit") int limit
+    );
 
 }
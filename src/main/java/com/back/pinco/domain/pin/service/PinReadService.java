@@ -0,0 +1,57 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.tag.dto.TagDto;
+import com.back.pinco.domain.tag.dto.projection.PinTagRow;
+import com.back.pinco.domain.tag.repository.PinTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 핀 목록 응답 조립용 조회 서비스
+ * 핀마다 pinTags 를 지연 로딩하지 않고, 핀 ID 목록으로 태그를 한 번에 조회해 붙인다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PinReadService {
+    private final PinTagRepository pinTagRepository;
+
+    /**
+     * 핀 목록을 DTO 로 변환 (태그 조회 1회)
+     *
+     * @param pins 핀 목록
+     * @return 입력 순서를 유지한 핀 DTO 목록
+     */
+    public List<PinDto> toDtos(List<Pin> pins) {
+        if (pins.isEmpty()) return List.of();
+
+        Map<Long, List<TagDto>> tagsByPinId = findTagsByPinIds(pins.stream().map(Pin::getId).toList());
+        return pins.stream()
+                .map(pin -> new PinDto(pin, tagsByPinId.getOrDefault(pin.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 핀 ID 목록에 연결된 태그를 핀 ID 별로 묶어 반환
+     *
+     * @param pinIds 핀 ID 목록
+     * @return 핀 ID → 태그 DTO 목록
+     */
+    public Map<Long, List<TagDto>> findTagsByPinIds(Collection<Long> pinIds) {
+        if (pinIds.isEmpty()) return Map.of();
+
+        return pinTagRepository.findTagRowsByPinIds(pinIds).stream()
+                .collect(Collectors.groupingBy(
+                        PinTagRow::pinId,
+                        Collectors.mapping(PinTagRow::toTagDto, Collectors.toList())
+                ));
+    }
+}
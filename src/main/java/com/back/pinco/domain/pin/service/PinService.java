@@ -1,32 +1,83 @@
 package com.back.pinco.domain.pin.service;
 
-import com.back.pinco.domain.likes.repository.LikesRepository;
+import com.back.pinco.domain.pin.dto.CreatePinBatchRequest;
 import com.back.pinco.domain.pin.dto.CreatePinRequest;
+import com.back.pinco.domain.pin.dto.PinCalendarDayDto;
+import com.back.pinco.domain.pin.dto.PinChangesResponse;
+import com.back.pinco.domain.pin.dto.PinClusterDto;
+import com.back.pinco.domain.pin.dto.PinDto;
 import com.back.pinco.domain.pin.dto.UpdatePinContentRequest;
+import com.back.pinco.domain.pin.dto.projection.PinClusterRow;
+import com.back.pinco.domain.pin.dto.projection.PinClusterTagRow;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.event.PinActivityEvent;
 import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.tag.entity.PinTag;
+import com.back.pinco.domain.tag.entity.Tag;
+import com.back.pinco.domain.tag.repository.PinTagRepository;
+import com.back.pinco.domain.tag.service.PinTagService;
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.service.UserStatsService;
+import com.back.pinco.global.datasource.ReadFromPrimary;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
 import com.back.pinco.global.geometry.GeometryUtil;
-import jakarta.transaction.Transactional;
+import com.back.pinco.global.page.CursorPage;
+import com.back.pinco.global.page.KeysetCursor;
+import com.back.pinco.global.search.SearchTokenizer;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.geom.Point;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service
 @RequiredArgsConstructor
 public class PinService {
+    private static final int CLUSTER_CELLS_PER_TILE = 4;    // 타일 한 장을 가로/세로로 나누는 칸 수
+    private static final int CLUSTER_TOP_TAGS = 3;          // 클러스터마다 내려주는 태그 수
+    private static final int MAX_CLUSTER_ZOOM = 20;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MIN_CALENDAR_YEAR = 1970;
+    private static final int MAX_CALENDAR_YEAR = 9999;
+    private static final int BATCH_SIZE = 50;               // hibernate.jdbc.batch_size, PIN_SEQ allocationSize 와 동일
+    private static final Duration CHANGES_SETTLE = Duration.ofSeconds(5);   // 변경 피드에서 아직 내려주지 않는 최근 구간
+    private static final LocalDateTime CHANGES_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final PinRepository pinRepository;
+    private final EntityManager entityManager;
+    private final PinReadService pinReadService;
+    private final PinTileCache pinTileCache;
+    private final PinTrendingIndex pinTrendingIndex;
+    private final PinStreamHub pinStreamHub;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PinTagService pinTagService;
+    private final PinTagRepository pinTagRepository;
+    private final UserStatsService userStatsService;
 
 
+    @Transactional(readOnly = true)
     public long count() {
         return pinRepository.count();
     }
@@ -35,14 +86,76 @@ public class PinService {
     public Pin write(User actor, CreatePinRequest pinReqbody) {
         if(actor==null) throw new ServiceException(ErrorCode.PIN_NO_PERMISSION);
         Point point = GeometryUtil.createPoint(pinReqbody.longitude(), pinReqbody.latitude());
+        Pin pin;
         try {
-            Pin pin = new Pin(point, actor, pinReqbody.content());
-            return pinRepository.save(pin);
+            pin = pinRepository.save(new Pin(point, actor, pinReqbody.content()));
+            pinTileCache.evict(point);
         }catch(Exception e){
             throw new ServiceException(ErrorCode.PIN_CREATE_FAILED);
         }
+        userStatsService.pinsCreated(actor.getId(), 1);
+        eventPublisher.publishEvent(PinActivityEvent.created(pin, new PinDto(pin, List.of())));
+        return pin;
+    }
+
+    // 핀 일괄 생성 : 태그는 한 번에 조회/생성하고, 핀·핀태그는 BATCH_SIZE 단위로 JDBC 배치 insert
+    @Transactional
+    public List<Long> writeBatch(User actor, List<CreatePinBatchRequest.Item> items) {
+        if(actor==null) throw new ServiceException(ErrorCode.PIN_NO_PERMISSION);
+        if (items.isEmpty() || items.size() > CreatePinBatchRequest.MAX_SIZE) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+
+        Map<String, Tag> tagsByKeyword = pinTagService.findOrCreateTags(items.stream()
+                .filter(item -> item.tags() != null)
+                .flatMap(item -> item.tags().stream())
+                .toList());
+
+        List<Long> pinIds = new ArrayList<>(items.size());
+        try {
+            for (int from = 0; from < items.size(); from += BATCH_SIZE) {
+                List<CreatePinBatchRequest.Item> chunk = items.subList(from, Math.min(from + BATCH_SIZE, items.size()));
+                List<Pin> pins = new ArrayList<>(chunk.size());
+                List<PinTag> pinTags = new ArrayList<>();
+                for (CreatePinBatchRequest.Item item : chunk) {
+                    Point point = GeometryUtil.createPoint(item.longitude(), item.latitude());
+                    Pin pin = new Pin(point, actor, item.content());
+                    pins.add(pin);
+                    if (item.tags() != null) {
+                        item.tags().stream()
+                                .filter(tagsByKeyword::containsKey)
+                                .distinct()
+                                .forEach(keyword -> pinTags.add(new PinTag(pin, tagsByKeyword.get(keyword), false)));
+                    }
+                }
+                pinRepository.saveAll(pins);
+                pinTagRepository.saveAll(pinTags);
+
+                // 배치 단위로 insert 를 내보내고 영속성 컨텍스트를 비워 메모리 사용량 유지
+                entityManager.flush();
+                entityManager.clear();
+                pins.forEach(pin -> {
+                    pinIds.add(pin.getId());
+                    pinTileCache.evict(pin.getPoint());
+                });
+            }
+        } catch (Exception e) {
+            throw new ServiceException(ErrorCode.PIN_CREATE_FAILED);
+        }
+        userStatsService.pinsCreated(actor.getId(), pinIds.size());
+
+        // 배치 중 영속성 컨텍스트를 비웠으므로 스트림 구독자가 있을 때만 태그와 함께 다시 읽어 알림
+        if (pinStreamHub.subscriberCount() > 0) {
+            List<Pin> created = pinRepository.findAllById(pinIds);
+            List<PinDto> dtos = pinReadService.toDtos(created);
+            for (int i = 0; i < created.size(); i++) {
+                eventPublisher.publishEvent(PinActivityEvent.created(created.get(i), dtos.get(i)));
+            }
+        }
+        return pinIds;
     }
 
+    @Transactional(readOnly = true)
     public Pin findById(long id, User actor) {
         if(actor==null){
             return pinRepository.findPublicPinById(id)
@@ -53,10 +166,12 @@ public class PinService {
                 .orElseThrow(() -> new ServiceException(ErrorCode.PIN_NOT_FOUND));
     }
 
+    @Transactional(readOnly = true)
     public Boolean checkId(long id) {
         return pinRepository.findById(id).isPresent();
     }
 
+    @Transactional(readOnly = true)
     public List<Pin> findAll(User actor) {
         List<Pin> pins;
         if(actor==null){
@@ -68,16 +183,184 @@ public class PinService {
         return pins;
     }
 
+    // 전체 핀 커서 조회 : after 보다 큰 pinId 부터 limit 건
+    @Transactional(readOnly = true)
+    public CursorPage<PinDto> findAllAfter(User actor, long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+        List<Pin> pins;
+        if(actor==null){
+            pins = pinRepository.findPublicPinsAfter(after, Limit.of(limit + 1));
+        }else {
+            pins = pinRepository.findAccessiblePinsAfter(actor.getId(), after, Limit.of(limit + 1));
+        }
+
+        List<PinDto> pinDtos = pinReadService.toDtos(pins);
+        return CursorPage.of(pinDtos, limit, pinDto -> String.valueOf(pinDto.id()));
+    }
+
+    // 전체 핀 스트리밍 : STREAM_FETCH_SIZE 단위로 태그를 묶어 조회하고 영속성 컨텍스트를 비움
+    @Transactional(readOnly = true)
+    public void streamAll(User actor, Consumer<PinDto> consumer) {
+        try (Stream<Pin> pins = actor == null
+                ? pinRepository.streamAllPublicPins()
+                : pinRepository.streamAllAccessiblePins(actor.getId())) {
+            List<Pin> chunk = new ArrayList<>(PinRepository.STREAM_FETCH_SIZE);
+            pins.forEach(pin -> {
+                chunk.add(pin);
+                if (chunk.size() == PinRepository.STREAM_FETCH_SIZE) {
+                    pinReadService.toDtos(chunk).forEach(consumer);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            });
+            pinReadService.toDtos(chunk).forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<Pin> findNearPins(double latitude,double longitude, double radius, User actor) {
         List<Pin> pins;
         if(actor==null){
-            pins=  pinRepository.findPublicPinsWithinRadius(latitude,longitude,radius);
+            // 비로그인 : 타일 캐시로 후보를 고르고 반경은 DB 와 같은 기준으로 다시 판정, 범위가 넓으면 DB 조회
+            pins = pinTileCache.findPublicPinIdsWithinRadius(latitude, longitude, radius)
+                    .map(pinIds -> pinIds.isEmpty()
+                            ? List.<Pin>of()
+                            : pinRepository.findPublicPinsWithinRadiusByIdIn(pinIds, latitude, longitude, radius))
+                    .orElseGet(() -> pinRepository.findPublicPinsWithinRadius(latitude,longitude,radius));
         }else {
             pins =  pinRepository.findPinsWithinRadius(latitude,longitude,radius, actor.getId());
         }
         return pins;
     }
 
+    // 반경 내 내용 검색 (검색어도 SearchTokenizer 로 변환해 저장된 토큰과 같은 규칙으로 비교)
+    @Transactional(readOnly = true)
+    public List<Pin> searchNearPins(String query, double latitude, double longitude, double radius, int limit, User actor) {
+        String tokens = SearchTokenizer.tokenize(query);
+        if (tokens.isEmpty() || radius <= 0 || limit < 1 || limit > MAX_SEARCH_SIZE) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+        if(actor==null){
+            return pinRepository.searchPublicPinsWithinRadius(tokens, latitude, longitude, radius, limit);
+        }
+        return pinRepository.searchPinsWithinRadius(tokens, latitude, longitude, radius, actor.getId(), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Pin> findPinsInBoundingBox(double minLat, double minLng, double maxLat, double maxLng, User actor) {
+        validateBoundingBox(minLat, minLng, maxLat, maxLng);
+        List<Pin> pins;
+        if(actor==null){
+            pins = pinTileCache.findPublicPinIdsInBoundingBox(minLat, minLng, maxLat, maxLng)
+                    .map(this::findPublicPinsByIds)
+                    .orElseGet(() -> pinRepository.findPublicPinsInBoundingBox(minLat, minLng, maxLat, maxLng));
+        }else {
+            pins = pinRepository.findPinsInBoundingBox(minLat, minLng, maxLat, maxLng, actor.getId());
+        }
+        return pins;
+    }
+
+    // 화면 영역 내 인기 공개 핀 (시간 감쇠 점수 내림차순)
+    @Transactional(readOnly = true)
+    public List<Pin> findTrendingPins(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        validateBoundingBox(minLat, minLng, maxLat, maxLng);
+        if (limit < 1 || limit > pinTrendingIndex.getTopK()) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+
+        return pinTrendingIndex.findTopPinIds(minLat, minLng, maxLat, maxLng)
+                .map(pinIds -> findPublicPinsInOrder(pinIds, limit))
+                .orElseGet(() -> pinRepository.findTrendingPublicPinsInBoundingBox(
+                        minLat, minLng, maxLat, maxLng, LocalDateTime.now(), pinTrendingIndex.getHalfLifeMillis(), limit));
+    }
+
+    /**
+     * 변경 피드 : since 이후 화면 영역에서 생성/수정/비공개 전환/삭제된 핀
+     * since 가 없으면 화면 영역의 볼 수 있는 핀 전체를 수정 시각 순으로 내려준다 (첫 동기화).
+     * 수정 시각은 커밋보다 먼저 기록되므로, 늦게 커밋된 변경을 놓치지 않도록 최근 CHANGES_SETTLE 구간은 다음 요청으로 미룬다.
+     * replica 가 CHANGES_SETTLE 보다 늦게 따라오면 그 사이 변경을 건너뛰게 되므로 primary 에서 조회한다.
+     */
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public PinChangesResponse findChanges(User actor, String since,
+                                          double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        validateBoundingBox(minLat, minLng, maxLat, maxLng);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+        KeysetCursor decoded = KeysetCursor.decode(since);
+        boolean initial = decoded == null;
+        KeysetCursor after = initial ? new KeysetCursor(CHANGES_EPOCH, 0L) : decoded;
+        LocalDateTime until = LocalDateTime.now().minus(CHANGES_SETTLE);
+
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1 건 조회
+        List<Pin> fetched = pinRepository.findChangesInBoundingBox(
+                after.time(), after.id(), until, minLat, minLng, maxLat, maxLng, limit + 1);
+        boolean hasMore = fetched.size() > limit;
+        List<Pin> page = hasMore ? fetched.subList(0, limit) : fetched;
+
+        List<Pin> changed = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (Pin pin : page) {
+            if (isVisible(pin, actor)) {
+                changed.add(pin);
+            } else if (!initial && !pin.getCreatedAt().isAfter(after.time()) && hiddenSince(pin, actor, after.time())) {
+                // since 이전부터 있던 핀만 삭제 표시 (그 뒤에 생겨 클라이언트가 본 적 없는 핀은 생략)
+                removed.add(pin.getId());
+            }
+        }
+
+        KeysetCursor next;
+        if (hasMore) {
+            Pin last = page.get(page.size() - 1);
+            next = new KeysetCursor(last.getModifiedAt(), last.getId());
+        } else {
+            next = after.time().isAfter(until) ? after : new KeysetCursor(until, Long.MAX_VALUE);
+        }
+        return new PinChangesResponse(pinReadService.toDtos(changed), removed, next.encode(), hasMore);
+    }
+
+    // 줌 레벨에 맞춘 격자로 핀을 묶어 클러스터 목록을 반환
+    @Transactional(readOnly = true)
+    public List<PinClusterDto> findClusters(double minLat, double minLng, double maxLat, double maxLng, int zoom, User actor) {
+        validateBoundingBox(minLat, minLng, maxLat, maxLng);
+        if (zoom < 0 || zoom > MAX_CLUSTER_ZOOM) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+        // 타일 한 장(360 / 2^zoom 도)을 CLUSTER_CELLS_PER_TILE 칸으로 나눈 크기
+        double cellSize = 360.0 / (1L << zoom) / CLUSTER_CELLS_PER_TILE;
+
+        List<PinClusterRow> rows;
+        List<PinClusterTagRow> tagRows;
+        if(actor==null){
+            rows = pinRepository.findPublicClusters(minLat, minLng, maxLat, maxLng, cellSize);
+            tagRows = pinRepository.findPublicClusterTags(minLat, minLng, maxLat, maxLng, cellSize, CLUSTER_TOP_TAGS);
+        }else {
+            rows = pinRepository.findClusters(minLat, minLng, maxLat, maxLng, cellSize, actor.getId());
+            tagRows = pinRepository.findClusterTags(minLat, minLng, maxLat, maxLng, cellSize, actor.getId(), CLUSTER_TOP_TAGS);
+        }
+
+        // 셀별 상위 태그 (SQL 에서 셀마다 사용 횟수 순으로 CLUSTER_TOP_TAGS 개만 조회)
+        Map<String, List<String>> topTagsByCell = tagRows.stream()
+                .collect(Collectors.groupingBy(
+                        row -> cellKey(row.getCellX(), row.getCellY()),
+                        Collectors.mapping(PinClusterTagRow::getKeyword, Collectors.toList())
+                ));
+
+        return rows.stream()
+                .map(row -> new PinClusterDto(
+                        row.getLatitude(),
+                        row.getLongitude(),
+                        row.getPinCount(),
+                        topTagsByCell.getOrDefault(cellKey(row.getCellX(), row.getCellY()), List.of()),
+                        parseIds(row.getSamplePinIds())
+                ))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public List<Pin> findByUserId(User actor, User writer) {
         List<Pin> pins;
         if(actor==null){
@@ -89,24 +372,42 @@ public class PinService {
         return pins;
     }
 
+    @Transactional(readOnly = true)
     public List<Pin> findByUserIdDate(User actor, User writer, double year,double month) {
-        System.out.println(year+" "+month+"-------------");
+        // [해당 월 1일 0시, 다음 달 1일 0시) 범위로 조회해 (user_id, create_at) 인덱스를 타도록 함
+        LocalDateTime from = monthStart((int) year, (int) month);
+        LocalDateTime to = from.plusMonths(1);
         List<Pin> pins;
         if(actor==null){
-            pins= pinRepository.findPublicByUserDate(writer.getId(), (int) year, (int) month);
+            pins= pinRepository.findPublicByUserDate(writer.getId(), from, to);
         }else {
-            pins = pinRepository.findAccessibleByUserDate(writer.getId(), actor.getId(), (int) year, (int) month);
+            pins = pinRepository.findAccessibleByUserDate(writer.getId(), actor.getId(), from, to);
         }
 
         return pins;
     }
 
+    // 작성자의 연간 일자별 핀 개수 (달력 표시용)
+    @Transactional(readOnly = true)
+    public List<PinCalendarDayDto> findCalendarByUserId(User actor, User writer, int year) {
+        LocalDateTime from = monthStart(year, 1);
+        LocalDateTime to = from.plusYears(1);
+        if(actor==null){
+            return pinRepository.countPublicByUserPerDay(writer.getId(), from, to);
+        }
+        return pinRepository.countAccessibleByUserPerDay(writer.getId(), actor.getId(), from, to);
+    }
+
     @Transactional
     public Pin update(User actor, Long pinId, UpdatePinContentRequest updatePinContentRequest) {
         Pin pin = pinRepository.findById(pinId).orElseThrow(()->new ServiceException(ErrorCode.PIN_NOT_FOUND));
         if(pin.getUser().getId().equals(actor.getId())){
             try {
                 pin.update(updatePinContentRequest);
+                pinTileCache.evict(pin.getPoint());
+                if (pinStreamHub.subscriberCount() > 0) {    // 구독자가 없으면 알림용 DTO 를 만들지 않음
+                    eventPublisher.publishEvent(PinActivityEvent.updated(pin, pinReadService.toDtos(List.of(pin)).get(0)));
+                }
             }catch(Exception e){
                 throw new ServiceException(ErrorCode.PIN_UPDATE_FAILED);
             }
@@ -124,6 +425,13 @@ public class PinService {
         if(pin.getUser().getId().equals(actor.getId())){
             try {
                 pin.togglePublic();
+                pinTileCache.evict(pin.getPoint());
+                if (!pin.getIsPublic()) pinTrendingIndex.remove(pinId);
+                if (pinStreamHub.subscriberCount() > 0) {
+                    eventPublisher.publishEvent(PinActivityEvent.visibilityChanged(
+                            pin, pin.getIsPublic() ? pinReadService.toDtos(List.of(pin)).get(0) : null));
+                }
+                userStatsService.pinVisibilityChanged(actor.getId(), pin.getIsPublic());
             }catch(Exception e){
                 throw new ServiceException(ErrorCode.PIN_UPDATE_FAILED);
             }
@@ -134,11 +442,24 @@ public class PinService {
         return pin;
     }
 
+    @Transactional
     public void deleteById(Long pinId, User actor) {
         Pin pin = pinRepository.findById(pinId).orElseThrow(()->new ServiceException(ErrorCode.PIN_NOT_FOUND));
         if(pin.getUser().getId().equals(actor.getId())){
             try {
+                boolean wasDeleted = pin.getDeleted();
                 pin.setDeleted();
+                if (!wasDeleted) {
+                    // 삭제 UPDATE 로 핀 행 잠금을 먼저 잡고 DB 에 반영된 like_count 만 뺌
+                    // (버퍼에 남은 증감은 받은 좋아요에 더해진 적이 없고, 삭제된 핀이라 앞으로도 더해지지 않음)
+                    pinRepository.saveAndFlush(pin);
+                    userStatsService.pinDeleted(actor.getId(), pin.getIsPublic(), pinRepository.findLikeCountById(pinId));
+                }
+                pinTileCache.evict(pin.getPoint());
+                pinTrendingIndex.remove(pinId);
+                if (pinStreamHub.subscriberCount() > 0) {
+                    eventPublisher.publishEvent(PinActivityEvent.visibilityChanged(pin, null));
+                }
             }catch(Exception e){
                 throw new ServiceException(ErrorCode.PIN_DELETE_FAILED);
             }
@@ -149,8 +470,61 @@ public class PinService {
         pinRepository.save(pin);
     }
 
-    @Transactional
-    public int updateDeleteByUser(Long userId) {
-        return pinRepository.updatePinsToDeletedByUserId(userId);
+    private LocalDateTime monthStart(int year, int month) {
+        if (year < MIN_CALENDAR_YEAR || year > MAX_CALENDAR_YEAR || month < 1 || month > 12) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+        return LocalDate.of(year, month, 1).atStartOfDay();
+    }
+
+    private List<Pin> findPublicPinsByIds(List<Long> pinIds) {
+        if (pinIds.isEmpty()) return List.of();
+        return pinRepository.findPublicPinsByIdIn(pinIds);
+    }
+
+    /**
+     * since 이후 볼 수 없게 된 핀인지 (변경 피드 삭제 표시 대상)
+     * 작성자는 비공개 핀도 보므로 삭제만, 다른 사용자는 공개 핀이 비공개 전환/삭제된 경우만 해당한다.
+     * 처음부터 비공개였던 다른 사용자의 핀은 삭제 표시로도 내려가지 않는다. (ID 로 위치가 드러나지 않도록)
+     * 숨긴 시각은 수정 시각보다 먼저 기록되므로 CHANGES_SETTLE 만큼 여유를 둔다.
+     */
+    private boolean hiddenSince(Pin pin, User actor, LocalDateTime since) {
+        if (actor != null && pin.getUser().getId().equals(actor.getId())) {
+            return pin.getDeleted();
+        }
+        return pin.getHiddenAt() != null && pin.getHiddenAt().isAfter(since.minus(CHANGES_SETTLE));
+    }
+
+    private boolean isVisible(Pin pin, User actor) {
+        if (pin.getDeleted()) return false;
+        return pin.getIsPublic() || (actor != null && pin.getUser().getId().equals(actor.getId()));
+    }
+
+    // ID 순서(인기 순)를 유지한 공개 핀 목록 (비공개 전환/삭제된 핀은 제외)
+    private List<Pin> findPublicPinsInOrder(List<Long> pinIds, int limit) {
+        Map<Long, Pin> pinsById = findPublicPinsByIds(pinIds).stream()
+                .collect(Collectors.toMap(Pin::getId, Function.identity()));
+        return pinIds.stream()
+                .map(pinsById::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+    }
+
+    private void validateBoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new ServiceException(ErrorCode.INVALID_BOUNDING_BOX);
+        }
+    }
+
+    private String cellKey(Double cellX, Double cellY) {
+        return cellX.longValue() + ":" + cellY.longValue();
+    }
+
+    private List<Long> parseIds(String joinedIds) {
+        if (joinedIds == null || joinedIds.isBlank()) return List.of();
+        return Arrays.stream(joinedIds.split(","))
+                .map(Long::valueOf)
+                .toList();
     }
 }
@@ -0,0 +1,242 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinStreamMessage;
+import com.back.pinco.domain.pin.event.PinActivityEvent;
+import com.back.pinco.global.exception.ErrorCode;
+import com.back.pinco.global.exception.ServiceException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지도 화면 영역 단위 핀 활동 스트림 (SSE)
+ * 구독은 화면 영역이 덮는 격자 칸(CELL_DEGREES)마다 등록해 두고,
+ * 커밋된 핀 이벤트는 핀이 속한 칸의 구독자 중 영역 안에 있는 구독자에게만 보낸다.
+ * 연결은 Tomcat 비동기 요청으로 유지되어 대기 중인 구독이 스레드나 DB 커넥션을 잡지 않는다.
+ * 전송은 구독마다 대기열에 쌓아 한 번에 한 스레드만 보내므로 커밋 순서대로 도착한다.
+ */
+@Slf4j
+@Component
+public class PinStreamHub {
+    static final double CELL_DEGREES = 0.05;               // 격자 칸 한 변 (위도 기준 약 5.5km)
+    private static final int MAX_CELLS_PER_SUBSCRIPTION = 400;
+    private static final int MAX_PENDING_EVENTS = 1000;     // 이보다 밀린 (느린) 구독은 끊음
+
+    private final long timeoutMs;
+
+    private final Map<Long, Set<Subscription>> cells = new ConcurrentHashMap<>();   // 칸 키 → 구독
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();  // 커밋 스레드에서 전송하지 않음
+
+    public PinStreamHub(@Value("${custom.pins.stream.timeoutMs:1800000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 화면 영역 구독
+     * @param userId 로그인 사용자 ID (본인 비공개 핀 이벤트 수신, 비로그인이면 null)
+     */
+    public SseEmitter subscribe(Long userId, double minLat, double minLng, double maxLat, double maxLng) {
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new ServiceException(ErrorCode.INVALID_BOUNDING_BOX);
+        }
+        int minX = cellX(minLng), maxX = cellX(maxLng);
+        int minY = cellY(minLat), maxY = cellY(maxLat);
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_CELLS_PER_SUBSCRIPTION) {
+            throw new ServiceException(ErrorCode.INVALID_BOUNDING_BOX);
+        }
+
+        List<Long> cellKeys = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                cellKeys.add(cellKey(x, y));
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = new Subscription(emitter, userId, minLat, minLng, maxLat, maxLng, cellKeys);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+
+        // 연결 직후 응답 헤더가 나가도록 첫 이벤트 전송 (등록 전이라 다른 전송과 겹치지 않음)
+        if (!send(subscription, SseEmitter.event().name("ready").data("ok"))) {
+            return emitter;
+        }
+
+        subscriptions.add(subscription);
+        cellKeys.forEach(key -> cells.compute(key, (k, set) -> {
+            Set<Subscription> next = set == null ? ConcurrentHashMap.newKeySet() : set;
+            next.add(subscription);
+            return next;
+        }));
+        return emitter;
+    }
+
+    /** 현재 구독 수 */
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * 커밋된 핀 이벤트를 해당 칸의 구독자 대기열에 추가 (트랜잭션 밖에서 발행된 이벤트도 바로 전달)
+     * 커밋 스레드에서는 대기열에 넣기만 하고 전송은 dispatcher 에서 한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPinActivity(PinActivityEvent event) {
+        Set<Subscription> candidates = cells.get(cellKey(cellX(event.longitude()), cellY(event.latitude())));
+        if (candidates == null || candidates.isEmpty()) return;
+
+        PinStreamMessage message = new PinStreamMessage(event);
+        for (Subscription subscription : candidates) {
+            if (subscription.receives(event)) {
+                enqueue(subscription, SseEmitter.event()
+                        .name(event.type().eventName())
+                        .id(String.valueOf(event.pinId()))
+                        .data(message, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    /** 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 전송 (끊긴 연결도 여기서 정리) */
+    @Scheduled(fixedDelayString = "${custom.pins.stream.heartbeatMs:25000}")
+    public void heartbeat() {
+        subscriptions.forEach(subscription -> enqueue(subscription, SseEmitter.event().comment("heartbeat")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+    }
+
+    // 구독 대기열에 추가하고, 보내는 스레드가 없으면 dispatcher 에서 전송 시작
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        if (subscription.pendingCount().incrementAndGet() > MAX_PENDING_EVENTS) {
+            if (unsubscribe(subscription)) {
+                log.debug("핀 스트림 전송 지연 - 구독 해제");
+                subscription.emitter().complete();
+            }
+            return;
+        }
+        subscription.pending().add(event);
+        if (subscription.sending().compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                subscription.sending().set(false);    // 종료 중
+            }
+        }
+    }
+
+    // 대기열이 빌 때까지 순서대로 전송 (구독마다 한 스레드만 실행)
+    private void drain(Subscription subscription) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.pending().poll()) != null) {
+                subscription.pendingCount().decrementAndGet();
+                if (subscriptions.contains(subscription)) send(subscription, event);
+            }
+            subscription.sending().set(false);
+            // 끝내는 사이 추가된 이벤트가 있으면 다시 맡음
+        } while (!subscription.pending().isEmpty() && subscription.sending().compareAndSet(false, true));
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            log.debug("핀 스트림 전송 실패 - 구독 해제", e);
+            unsubscribe(subscription);
+            return false;
+        }
+    }
+
+    // 이번 호출로 해제되었으면 true
+    private boolean unsubscribe(Subscription subscription) {
+        if (!subscriptions.remove(subscription)) return false;
+
+        subscription.cellKeys().forEach(key -> cells.computeIfPresent(key, (k, set) -> {
+            set.remove(subscription);
+            return set.isEmpty() ? null : set;
+        }));
+        return true;
+    }
+
+    // ===== 격자 계산 =====
+
+    private static int cellX(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static int cellY(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    private record Subscription(
+            SseEmitter emitter,
+            Long userId,
+            double minLat,
+            double minLng,
+            double maxLat,
+            double maxLng,
+            List<Long> cellKeys,
+            Queue<SseEmitter.SseEventBuilder> pending,      // 보낼 이벤트
+            AtomicInteger pendingCount,
+            AtomicBoolean sending                           // dispatcher 가 전송 중인지
+    ) {
+        Subscription(SseEmitter emitter, Long userId, double minLat, double minLng, double maxLat, double maxLng,
+                     List<Long> cellKeys) {
+            this(emitter, userId, minLat, minLng, maxLat, maxLng, cellKeys,
+                    new ConcurrentLinkedQueue<>(), new AtomicInteger(), new AtomicBoolean());
+        }
+
+        // 영역 안이고, 공개 핀이거나 본인 핀이거나 공개 → 비공개 전환(지도에서 지워야 함)인 경우 수신
+        boolean receives(PinActivityEvent event) {
+            if (event.latitude() < minLat || event.latitude() > maxLat
+                    || event.longitude() < minLng || event.longitude() > maxLng) {
+                return false;
+            }
+            return event.isPublic()
+                    || event.ownerId().equals(userId)
+                    || event.type() == PinActivityEvent.Type.VISIBILITY_CHANGED;
+        }
+
+        // 같은 값의 구독이 여러 개일 수 있어 동일성으로 비교
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.projection.PinPointRow;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.global.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * 비로그인 지도 조회용 공개 핀 타일 캐시
+ * 지도 타일(slippy tile, TILE_ZOOM 고정) 단위로 공개 핀의 ID·좌표를 보관하고,
+ * 반경/화면 영역 조회는 덮는 타일을 합친 뒤 Java 에서 한 번 더 거른다.
+ * 반경은 구면(haversine) 거리로 거르므로 DB 의 회전타원체(geography) 거리와 최대 0.5% 정도 다르다.
+ * 그래서 반경을 RADIUS_PADDING 만큼 넓혀 후보만 고르고, 정확한 판정은 호출 측이 ST_DWithin 으로 다시 한다.
+ * 핀 생성/수정/공개 여부 변경/삭제 시 해당 타일만 무효화한다.
+ */
+@Component
+public class PinTileCache {
+    static final int TILE_ZOOM = 14;                        // 서울 기준 타일 한 변 약 2km
+    private static final int MAX_TILES_PER_QUERY = 16;      // 이보다 넓은 조회는 DB 로 처리
+    private static final double MAX_TILE_LATITUDE = 85.0511; // 메르카토르 타일이 덮는 위도 한계
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double BOX_PADDING = 1.01;         // 반올림 오차로 경계의 핀이 빠지지 않도록 여유
+    static final double RADIUS_PADDING = 1.01;              // 구면/회전타원체 거리 차이(최대 약 0.5%)보다 넓게 후보 선택
+
+    private final PinRepository pinRepository;
+    private final AsyncCache<Long, List<TileEntry>> tiles;    // 타일 키 → 타일 안 공개 핀
+
+    public PinTileCache(
+            PinRepository pinRepository,
+            MeterRegistry meterRegistry,
+            @Value("${custom.pins.tileCache.ttlSeconds:60}") long ttlSeconds,
+            @Value("${custom.pins.tileCache.maxTiles:5000}") long maxTiles
+    ) {
+        this.pinRepository = pinRepository;
+        this.tiles = Caffeine.newBuilder()
+                .maximumSize(maxTiles)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, tiles, "pins.tiles");
+    }
+
+    /**
+     * 반경 내 공개 핀 후보 ID 조회
+     * 반경을 RADIUS_PADDING 만큼 넓혀 고르므로 반경 밖의 핀이 섞일 수 있다. (호출 측에서 ST_DWithin 으로 다시 거름)
+     * @return 핀 ID (오름차순), 덮는 타일이 너무 많거나 타일 범위를 벗어나면 empty → DB 조회
+     */
+    public Optional<List<Long>> findPublicPinIdsWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        double searchRadius = radiusInMeters * RADIUS_PADDING;
+
+        // 덮을 타일 범위는 아래 haversine 필터와 같은 지구 반지름으로 계산 (반지름이 다르면 경계의 핀이 빠짐)
+        // 원이 극을 포함하면 모든 경도를 덮으므로 무한대 → collect 가 empty 를 돌려 DB 로 처리
+        double angle = searchRadius / EARTH_RADIUS_METERS;    // 중심각 (라디안)
+        double sinRatio = Math.sin(angle) / Math.cos(Math.toRadians(latitude));
+        double dLat = Math.toDegrees(angle) * BOX_PADDING;
+        double dLng = sinRatio >= 1 ? Double.POSITIVE_INFINITY : Math.toDegrees(Math.asin(sinRatio)) * BOX_PADDING;
+
+        return collect(latitude - dLat, longitude - dLng, latitude + dLat, longitude + dLng,
+                entry -> distanceInMeters(latitude, longitude, entry.latitude(), entry.longitude()) <= searchRadius);
+    }
+
+    /**
+     * 화면 영역 내 공개 핀 ID 조회
+     * @return 핀 ID (오름차순), 덮는 타일이 너무 많거나 타일 범위를 벗어나면 empty → DB 조회
+     */
+    public Optional<List<Long>> findPublicPinIdsInBoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+        return collect(minLat, minLng, maxLat, maxLng,
+                entry -> entry.latitude() >= minLat && entry.latitude() <= maxLat
+                        && entry.longitude() >= minLng && entry.longitude() <= maxLng);
+    }
+
+    /**
+     * 핀 위치의 타일 무효화
+     * 트랜잭션 안이면 커밋 이후에도 한 번 더 지움 (커밋 전에 다른 요청이 예전 타일을 다시 올리는 경우 대비)
+     */
+    public void evict(Point point) {
+        long key = tileKey(tileX(point.getX()), tileY(point.getY()));
+        tiles.synchronous().invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tiles.synchronous().invalidate(key);
+                }
+            });
+        }
+    }
+
+    // 전체 무효화 (여러 핀을 한 번에 바꾸는 경우)
+    public void evictAll() {
+        tiles.synchronous().invalidateAll();
+    }
+
+    private Optional<List<Long>> collect(double minLat, double minLng, double maxLat, double maxLng,
+                                         Predicate<TileEntry> filter) {
+        if (minLng < -180 || maxLng > 180 || minLat < -MAX_TILE_LATITUDE || maxLat > MAX_TILE_LATITUDE) {
+            return Optional.empty();
+        }
+
+        int minX = tileX(minLng), maxX = tileX(maxLng);
+        int minY = tileY(maxLat), maxY = tileY(minLat);    // 타일 y 는 남쪽으로 증가
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_TILES_PER_QUERY) {
+            return Optional.empty();
+        }
+
+        // 타일 경계에 걸친 핀은 두 타일에 모두 들어 있을 수 있어 Set 으로 중복 제거
+        TreeSet<Long> pinIds = new TreeSet<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (TileEntry entry : tile(x, y)) {
+                    if (filter.test(entry)) pinIds.add(entry.id());
+                }
+            }
+        }
+        return Optional.of(new ArrayList<>(pinIds));
+    }
+
+    // 타일 적재 중에 evict 되면 적재한 (예전) 타일은 캐시에 남지 않음 (CacheLoader)
+    private List<TileEntry> tile(int x, int y) {
+        return CacheLoader.get(tiles, tileKey(x, y), () -> loadTile(x, y));
+    }
+
+    private List<TileEntry> loadTile(int x, int y) {
+        List<PinPointRow> rows = pinRepository.findPublicPinPointsInBoundingBox(
+                tileLatitude(y + 1), tileLongitude(x), tileLatitude(y), tileLongitude(x + 1));
+        return rows.stream()
+                .map(row -> new TileEntry(row.getId(), row.getLatitude(), row.getLongitude()))
+                .toList();
+    }
+
+    // ===== 타일 좌표 계산 (slippy map) =====
+
+    private static int tileX(double longitude) {
+        int n = 1 << TILE_ZOOM;
+        return Math.min(n - 1, (int) Math.floor((longitude + 180) / 360 * n));
+    }
+
+    private static int tileY(double latitude) {
+        int n = 1 << TILE_ZOOM;
+        double latRad = Math.toRadians(latitude);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return Math.max(0, Math.min(n - 1, y));
+    }
+
+    private static double tileLongitude(int x) {
+        return x / (double) (1 << TILE_ZOOM) * 360 - 180;
+    }
+
+    private static double tileLatitude(int y) {
+        double n = Math.PI * (1 - 2.0 * y / (1 << TILE_ZOOM));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static long tileKey(int x, int y) {
+        return ((long) x << TILE_ZOOM) | y;
+    }
+
+    // 두 좌표 사이 거리 (haversine, 미터)
+    private static double distanceInMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    private record TileEntry(Long id, double latitude, double longitude) {
+    }
+}
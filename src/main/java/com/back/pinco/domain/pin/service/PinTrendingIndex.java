@@ -0,0 +1,371 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.projection.PinTrendRow;
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 핀 색인 (시간 감쇠 점수)
+ * 좋아요/북마크가 생길 때마다 핀 점수에 가중치를 더하고, 점수는 반감기(halfLife)마다 절반으로 줄어든다.
+ * 모든 핀이 같은 비율로 줄어들기 때문에 점수 대신 log2(점수) + 시각/반감기 를 정렬 키로 저장하면
+ * 시간이 지나도 순위가 바뀌지 않아, 이벤트가 없는 핀은 다시 계산할 필요가 없다.
+ * 지역(REGION_DEGREES 격자)마다 상위 K개를 유지하므로 화면이 통째로 덮는 지역은 상위 K개만 합치면 된다.
+ * 화면이 일부만 덮는 지역은 상위 K개 밖의 핀이 화면 안의 상위일 수 있어 지역의 모든 핀을 훑는다.
+ * 점수는 주기적으로 pins.trend_score / trend_scored_at 에 저장하고 기동 시 다시 읽어 온다.
+ */
+@Slf4j
+@Component
+public class PinTrendingIndex {
+    public static final double LIKE_WEIGHT = 1.0;           // 좋아요 1건 가중치
+    public static final double BOOKMARK_WEIGHT = 2.0;       // 북마크 1건 가중치
+    static final double REGION_DEGREES = 0.1;               // 지역 격자 한 변 (위도 기준 약 11km)
+    private static final int MAX_REGIONS_PER_QUERY = 400;  // 이보다 넓은 조회는 DB 로 처리
+    private static final double MIN_SCORE = 0.05;           // 이보다 작아진 점수는 색인에서 제거
+
+    private static final Comparator<Entry> BY_RANK = Comparator
+            .comparingDouble(Entry::key).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::pinId).reversed());
+
+    private final PinRepository pinRepository;
+    private final double halfLifeMillis;
+    private final int topK;
+
+    private final Map<Long, Region> regions = new ConcurrentHashMap<>();    // 지역 키 → 지역
+    private final Map<Long, Long> regionOfPin = new ConcurrentHashMap<>();  // 핀 ID → 지역 키
+    private final Set<Long> dirtyPinIds = ConcurrentHashMap.newKeySet();    // 저장되지 않은 점수 변경
+
+    public PinTrendingIndex(
+            PinRepository pinRepository,
+            @Value("${custom.pins.trending.halfLifeHours:6}") double halfLifeHours,
+            @Value("${custom.pins.trending.topK:50}") int topK
+    ) {
+        this.pinRepository = pinRepository;
+        this.halfLifeMillis = halfLifeHours * Duration.ofHours(1).toMillis();
+        this.topK = topK;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public double getHalfLifeMillis() {
+        return halfLifeMillis;
+    }
+
+    /**
+     * 핀 점수에 가중치 반영 (취소는 음수 가중치)
+     * 공개 핀만 반영하며, 트랜잭션 안이면 커밋 이후에만 반영 (롤백된 좋아요/북마크는 세지 않음)
+     */
+    public void record(Pin pin, double weight) {
+        if (weight == 0 || !pin.getIsPublic() || pin.getDeleted()) return;
+
+        Long pinId = pin.getId();
+        double latitude = pin.getPoint().getY();
+        double longitude = pin.getPoint().getX();
+        afterCommit(() -> recordNow(pinId, latitude, longitude, weight, System.currentTimeMillis()));
+    }
+
+    /** 비공개 전환/삭제된 핀을 색인에서 제거 */
+    public void remove(Long pinId) {
+        afterCommit(() -> {
+            Long regionKey = regionOfPin.remove(pinId);
+            if (regionKey == null) return;
+
+            Region region = regions.get(regionKey);
+            if (region != null) region.remove(pinId);
+            dirtyPinIds.add(pinId);
+        });
+    }
+
+    /**
+     * 화면 영역 내 인기 핀 ID 조회
+     * @return 점수 내림차순 핀 ID (최대 topK 개), 덮는 지역이 너무 많으면 empty → DB 조회
+     */
+    public Optional<List<Long>> findTopPinIds(double minLat, double minLng, double maxLat, double maxLng) {
+        int minX = regionX(minLng), maxX = regionX(maxLng);
+        int minY = regionY(minLat), maxY = regionY(maxLat);
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_REGIONS_PER_QUERY) {
+            return Optional.empty();
+        }
+
+        // 통째로 덮는 지역은 상위 K개, 일부만 덮는 지역은 화면 안의 모든 핀을 후보로 모아 다시 상위 K개 선택
+        List<Entry> candidates = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                Region region = regions.get(regionKey(x, y));
+                if (region == null) continue;
+
+                boolean covered = regionLng(x) >= minLng && regionLng(x + 1) <= maxLng
+                        && regionLat(y) >= minLat && regionLat(y + 1) <= maxLat;
+                if (covered) {
+                    candidates.addAll(region.top);
+                } else {
+                    candidates.addAll(region.within(minLat, minLng, maxLat, maxLng));
+                }
+            }
+        }
+        return Optional.of(candidates.stream()
+                .sorted(BY_RANK)
+                .limit(topK)
+                .map(Entry::pinId)
+                .toList());
+    }
+
+    /** 바뀐 점수를 pins.trend_score 에 저장하고, 충분히 줄어든 점수는 색인에서 제거 */
+    @Scheduled(fixedDelayString = "${custom.pins.trending.persistIntervalMs:60000}")
+    public void persist() {
+        long now = System.currentTimeMillis();
+        regions.values().forEach(region -> region.prune(now));
+
+        List<Long> pinIds = new ArrayList<>(dirtyPinIds);
+        if (pinIds.isEmpty()) return;
+        dirtyPinIds.removeAll(pinIds);
+
+        Double[] scores = pinIds.stream()
+                .map(pinId -> {
+                    Entry entry = find(pinId);
+                    return entry == null ? 0.0 : entry.scoreAt(now, halfLifeMillis);
+                })
+                .toArray(Double[]::new);
+        try {
+            pinRepository.updateTrendScores(pinIds.toArray(Long[]::new), scores, toDateTime(now));
+        } catch (Exception e) {
+            // 저장 실패 시 다음 주기에 다시 시도
+            log.warn("인기 점수 저장 실패 - 다음 주기에 재시도합니다. pins={}", pinIds.size(), e);
+            dirtyPinIds.addAll(pinIds);
+        }
+    }
+
+    /** 기동 시 저장된 점수를 현재 시각 기준으로 감쇠해 색인 적재 (이미 색인에 있는 핀은 건너뜀) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long now = System.currentTimeMillis();
+        List<PinTrendRow> rows = pinRepository.findPublicTrendScores(toDateTime(now), halfLifeMillis, MIN_SCORE);
+        int loaded = 0;
+        for (PinTrendRow row : rows) {
+            if (regionOfPin.containsKey(row.getId())) continue;
+            recordNow(row.getId(), row.getLatitude(), row.getLongitude(), row.getScore(), now);
+            dirtyPinIds.remove(row.getId());
+            loaded++;
+        }
+        log.info("인기 핀 색인 적재 완료 - {}건", loaded);
+    }
+
+    /** 종료 전 남은 점수 저장 */
+    @PreDestroy
+    public void persistOnShutdown() {
+        persist();
+    }
+
+    private void recordNow(Long pinId, double latitude, double longitude, double weight, long now) {
+        long regionKey = regionKey(regionX(longitude), regionY(latitude));
+        regionOfPin.put(pinId, regionKey);
+        regions.computeIfAbsent(regionKey, key -> new Region())
+                .add(pinId, latitude, longitude, weight, now);
+        dirtyPinIds.add(pinId);
+    }
+
+    private Entry find(Long pinId) {
+        Long regionKey = regionOfPin.get(pinId);
+        if (regionKey == null) return null;
+
+        Region region = regions.get(regionKey);
+        return region == null ? null : region.get(pinId);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    // ===== 지역 격자 계산 =====
+
+    private static int regionX(double longitude) {
+        return (int) Math.floor((longitude + 180) / REGION_DEGREES);
+    }
+
+    private static int regionY(double latitude) {
+        return (int) Math.floor((latitude + 90) / REGION_DEGREES);
+    }
+
+    // 지역 격자 x 의 서쪽 경계 경도 / y 의 남쪽 경계 위도
+    private static double regionLng(int x) {
+        return x * REGION_DEGREES - 180;
+    }
+
+    private static double regionLat(int y) {
+        return y * REGION_DEGREES - 90;
+    }
+
+    private static long regionKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    /**
+     * 지역 하나의 핀 점수와 상위 K개
+     * 쓰기는 잠금 안에서, 읽기는 잠금 없이 top 스냅샷(불변 목록)으로 처리
+     */
+    private final class Region {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, Entry> entries = new HashMap<>();    // 지역 안 점수가 있는 모든 핀
+        private volatile List<Entry> top = List.of();                // 점수 내림차순 상위 K개
+
+        Entry get(Long pinId) {
+            lock.lock();
+            try {
+                return entries.get(pinId);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 지역의 모든 핀 중 화면 안의 핀 (화면이 지역 일부만 덮을 때)
+        List<Entry> within(double minLat, double minLng, double maxLat, double maxLng) {
+            lock.lock();
+            try {
+                List<Entry> found = new ArrayList<>();
+                for (Entry entry : entries.values()) {
+                    if (entry.latitude() >= minLat && entry.latitude() <= maxLat
+                            && entry.longitude() >= minLng && entry.longitude() <= maxLng) {
+                        found.add(entry);
+                    }
+                }
+                return found;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void add(Long pinId, double latitude, double longitude, double weight, long now) {
+            lock.lock();
+            try {
+                Entry previous = entries.get(pinId);
+                double score = (previous == null ? 0 : previous.scoreAt(now, halfLifeMillis)) + weight;
+                if (score < MIN_SCORE) {
+                    entries.remove(pinId);
+                    if (previous != null) rebuildTop();
+                    return;
+                }
+
+                Entry entry = new Entry(pinId, latitude, longitude, Entry.key(score, now, halfLifeMillis));
+                entries.put(pinId, entry);
+                if (previous != null && entry.key() < previous.key() && top.contains(previous)) {
+                    // 상위 K개 안의 점수가 줄면 밖에 있던 핀이 올라올 수 있어 다시 계산
+                    rebuildTop();
+                } else {
+                    offerTop(previous, entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Long pinId) {
+            lock.lock();
+            try {
+                if (entries.remove(pinId) != null) rebuildTop();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void prune(long now) {
+            lock.lock();
+            try {
+                boolean removed = entries.values().removeIf(entry -> {
+                    if (entry.scoreAt(now, halfLifeMillis) >= MIN_SCORE) return false;
+                    regionOfPin.remove(entry.pinId());
+                    return true;
+                });
+                if (removed) {
+                    rebuildTop();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 점수가 오른 핀을 상위 K개에 반영 (O(K))
+        private void offerTop(Entry previous, Entry entry) {
+            List<Entry> current = top;
+            if (current.size() >= topK
+                    && BY_RANK.compare(entry, current.get(current.size() - 1)) > 0) {
+                return;
+            }
+
+            List<Entry> next = new ArrayList<>(current.size() + 1);
+            for (Entry e : current) {
+                if (!e.pinId().equals(entry.pinId())) next.add(e);
+            }
+            next.add(entry);
+            next.sort(BY_RANK);
+            if (next.size() > topK) {
+                next = next.subList(0, topK);
+            }
+            top = List.copyOf(next);
+        }
+
+        // 지역의 모든 핀에서 상위 K개 다시 선택 (크기 K 의 최소 힙)
+        private void rebuildTop() {
+            PriorityQueue<Entry> heap = new PriorityQueue<>(topK + 1, BY_RANK.reversed());
+            for (Entry entry : entries.values()) {
+                heap.offer(entry);
+                if (heap.size() > topK) heap.poll();
+            }
+            List<Entry> next = new ArrayList<>(heap);
+            next.sort(BY_RANK);
+            top = List.copyOf(next);
+        }
+    }
+
+    /**
+     * 핀 점수
+     * @param key log2(점수) + 기록 시각/반감기 (시간이 지나도 핀 사이 순위가 그대로인 정렬 키)
+     */
+    private record Entry(Long pinId, double latitude, double longitude, double key) {
+
+        static double key(double score, long epochMillis, double halfLifeMillis) {
+            return Math.log(score) / Math.log(2) + epochMillis / halfLifeMillis;
+        }
+
+        double scoreAt(long epochMillis, double halfLifeMillis) {
+            return Math.pow(2, key - epochMillis / halfLifeMillis);
+        }
+    }
+}
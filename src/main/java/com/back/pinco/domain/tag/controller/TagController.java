@@ -1,15 +1,21 @@
 package com.back.pinco.domain.tag.controller;
 
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.service.PinReadService;
 import com.back.pinco.domain.tag.dto.PinTagDto;
 import com.back.pinco.domain.tag.dto.TagDto;
+import com.back.pinco.domain.tag.dto.TagSuggestionDto;
 import com.back.pinco.domain.tag.dto.request.AddTagToPinRequest;
 import com.back.pinco.domain.tag.dto.request.CreateTagRequest;
+import com.back.pinco.domain.tag.dto.request.TagMatchMode;
 import com.back.pinco.domain.tag.dto.response.*;
 import com.back.pinco.domain.tag.entity.PinTag;
 import com.back.pinco.domain.tag.service.PinTagService;
 import com.back.pinco.domain.tag.service.TagService;
+import com.back.pinco.global.rq.Rq;
 import com.back.pinco.global.rsData.RsData;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,6 +27,8 @@ public class TagController {
 
     private final TagService tagService;
     private final PinTagService pinTagService;
+    private final PinReadService pinReadService;
+    private final Rq rq;
 
     // 태그 전체 조회
     @GetMapping("/tags")
@@ -31,6 +39,14 @@ public class TagController {
         return new RsData<>("200", "태그 목록 조회 성공", new GetAllTagsResponse(tags));
     }
 
+    // 태그 자동완성 (접두어 검색, 사용 횟수 순)
+    @GetMapping("/tags/suggest")
+    public RsData<SuggestTagsResponse> suggestTags(@RequestParam String prefix,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        List<TagSuggestionDto> tags = tagService.suggestTags(prefix, limit);
+        return new RsData<>("200", "태그 자동완성 조회 성공", new SuggestTagsResponse(prefix, tags));
+    }
+
     // 특정 핀에 태그 추가
     @PostMapping("/pins/{pinId}/tags")
     public RsData<AddTagToPinResponse> addTagToPin(@PathVariable Long pinId,
@@ -78,13 +94,18 @@ public class TagController {
 
     // 여러 태그 기반 필터링 조회
     @GetMapping("/tags/filter")
-    public RsData<GetPinsByMultipleTagsResponse> getPinsByMultipleTags(@RequestParam List<String> keywords) {
-        List<GetFilteredPinResponse> pins = pinTagService.getPinsByMultipleTagKeywords(keywords)
+    public RsData<GetPinsByMultipleTagsResponse> getPinsByMultipleTags(@RequestParam List<String> keywords,
+                                                                       @RequestParam(defaultValue = "ALL") TagMatchMode mode,
+                                                                       @RequestParam(defaultValue = "0") int page,
+                                                                       @RequestParam(defaultValue = "20") int size) {
+        Slice<Pin> pinSlice = pinTagService.getPinsByMultipleTagKeywords(keywords, mode, page, size, rq.getActor());
+        List<GetFilteredPinResponse> pins = pinReadService.toDtos(pinSlice.getContent())
                 .stream()
                 .map(GetFilteredPinResponse::new)
                 .toList();
 
-        return new RsData<>("200", "태그 필터링 기반 게시물 목록 조회 성공", new GetPinsByMultipleTagsResponse(keywords, pins));
+        return new RsData<>("200", "태그 필터링 기반 게시물 목록 조회 성공",
+                new GetPinsByMultipleTagsResponse(keywords, mode, pins, page, pinSlice.hasNext()));
     }
 
     // 새로운 태그 생성 (관리자용)
@@ -0,0 +1,14 @@
+package com.back.pinco.domain.tag.dto;
+
+/**
+ * 태그 자동완성 항목
+ * @param id 태그 ID
+ * @param keyword 키워드
+ * @param usageCount 사용 횟수 (삭제되지 않은 핀에 연결된 수)
+ */
+public record TagSuggestionDto(
+        Long id,
+        String keyword,
+        long usageCount
+) {
+}
@@ -0,0 +1,23 @@
+package com.back.pinco.domain.tag.dto.projection;
+
+import com.back.pinco.domain.tag.dto.TagDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 핀 ID 별 태그 조회 결과 (JPQL 생성자 프로젝션)
+ * @param pinId 핀 ID
+ * @param tagId 태그 ID
+ * @param keyword 태그 키워드
+ * @param createdAt 태그 생성일
+ */
+public record PinTagRow(
+        Long pinId,
+        Long tagId,
+        String keyword,
+        LocalDateTime createdAt
+) {
+    public TagDto toTagDto() {
+        return new TagDto(tagId, keyword, createdAt);
+    }
+}
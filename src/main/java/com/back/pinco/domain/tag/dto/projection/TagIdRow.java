@@ -0,0 +1,13 @@
+package com.back.pinco.domain.tag.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 ID, 키워드, 생성 시각만 담은 조회 결과 (projection)
+ */
+public interface TagIdRow {
+    Long getId();               // 태그 ID
+    String getKeyword();        // 키워드
+    LocalDateTime getCreatedAt();   // 생성 시각
+    Boolean getInserted();      // 이번 upsert 로 새로 생성되었는지 (upsert 결과에서만 사용)
+}
@@ -0,0 +1,10 @@
+package com.back.pinco.domain.tag.dto.projection;
+
+/**
+ * 태그와 사용 횟수 (native query projection)
+ */
+public interface TagUsageRow {
+    Long getId();               // 태그 ID
+    String getKeyword();        // 키워드
+    Long getUsageCount();       // 삭제되지 않은 핀에 연결된 횟수
+}
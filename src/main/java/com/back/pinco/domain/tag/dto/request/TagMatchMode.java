@@ -0,0 +1,11 @@
+package com.back.pinco.domain.tag.dto.request;
+
+/**
+ * 여러 태그로 핀을 조회할 때의 결합 방식
+ * ALL : 모든 태그가 달린 핀 (교집합)
+ * ANY : 하나 이상의 태그가 달린 핀 (합집합)
+ */
+public enum TagMatchMode {
+    ALL,
+    ANY
+}
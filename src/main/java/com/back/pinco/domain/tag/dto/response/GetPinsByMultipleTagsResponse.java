@@ -1,8 +1,13 @@
 package com.back.pinco.domain.tag.dto.response;
 
+import com.back.pinco.domain.tag.dto.request.TagMatchMode;
+
 import java.util.List;
 
 public record GetPinsByMultipleTagsResponse(
         List<String> keywords,
-        List<GetFilteredPinResponse> pins
+        TagMatchMode mode,
+        List<GetFilteredPinResponse> pins,
+        int page,
+        boolean hasNext
 ) {}
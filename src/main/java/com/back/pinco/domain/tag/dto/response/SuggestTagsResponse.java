@@ -0,0 +1,10 @@
+package com.back.pinco.domain.tag.dto.response;
+
+import com.back.pinco.domain.tag.dto.TagSuggestionDto;
+
+import java.util.List;
+
+public record SuggestTagsResponse(
+        String prefix,
+        List<TagSuggestionDto> tags
+) {}
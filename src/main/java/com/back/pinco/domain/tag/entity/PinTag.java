@@ -16,12 +16,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_pin_tag",
                 columnNames = {"pin_id", "tag_id"}
-        ),
-        indexes = {
-                @Index(name = "idx_pin_tag_pin", columnList = "pin_id"),
-                @Index(name = "idx_pin_tag_tag", columnList = "tag_id"),
-                @Index(name = "idx_pin_tag_deleted", columnList = "is_deleted")
-        }
+        )    // 인덱스(삭제 제외 부분 인덱스)는 db/migration 에서 관리
 )
 @EntityListeners(AuditingEntityListener.class)
 @SequenceGenerator(
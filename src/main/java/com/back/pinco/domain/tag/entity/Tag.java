@@ -6,14 +6,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDateTime;
+
 @Entity
 @NoArgsConstructor
 @Getter
 @Table(
-        name = "tags",
-        indexes = {
-                @Index(name = "idx_tag_keyword", columnList = "keyword")
-        }
+        name = "tags"    // keyword 는 unique 제약으로 조회, 접두어 인덱스는 db/migration 에서 관리
 )
 @EntityListeners(AuditingEntityListener.class)
 @SequenceGenerator(
@@ -42,4 +41,10 @@ public class Tag extends BaseEntity {
         this.keyword = keyword;
     }
 
+    // 태그 사전 캐시 값으로 만든 태그 (영속 상태가 아니며 핀-태그 연결의 FK 와 응답에만 사용)
+    public Tag(Long id, String keyword, LocalDateTime createdAt) {
+        this(id, keyword);
+        setCreatedAt(createdAt);
+    }
+
 }
\ No newline at end of file
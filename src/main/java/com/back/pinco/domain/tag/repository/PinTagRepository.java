@@ -1,11 +1,17 @@
 package com.back.pinco.domain.tag.repository;
 
-import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.tag.dto.projection.PinTagRow;
 import com.back.pinco.domain.tag.entity.PinTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +22,48 @@ public interface PinTagRepository extends JpaRepository<PinTag, Long> {
     // 특정 핀과 태그에 대한 PinTag 조회
     Optional<PinTag> findByPin_IdAndTag_Id(Long pinId, Long tagId);
 
-    // 특정 태그 키워드와 연결된 삭제되지 않은 핀 목록 조회
-    @Query("SELECT pt.pin FROM PinTag pt " +
+    // 삭제되지 않은 핀-태그 연결이 하나라도 있는 태그 ID 조회
+    @Query("SELECT DISTINCT pt.tag.id FROM PinTag pt " +
+            "WHERE pt.tag.id IN :tagIds AND pt.deleted = false")
+    List<Long> findLinkedTagIds(@Param("tagIds") Collection<Long> tagIds);
+
+    // 태그 ID 중 minMatch 개 이상이 달린 공개 핀 ID 조회 (ALL: 태그 수, ANY: 1)
+    @Query("SELECT pt.pin.id FROM PinTag pt " +
+            "JOIN pt.pin p " +
+            "WHERE pt.tag.id IN :tagIds AND pt.deleted = false " +
+            "AND p.deleted = false AND p.isPublic = true " +
+            "GROUP BY pt.pin.id " +
+            "HAVING COUNT(DISTINCT pt.tag.id) >= :minMatch " +
+            "ORDER BY pt.pin.id")
+    Slice<Long> findPublicPinIdsByTagIds(@Param("tagIds") Collection<Long> tagIds,
+                                         @Param("minMatch") long minMatch,
+                                         Pageable pageable);
+
+    // 태그 ID 중 minMatch 개 이상이 달린 접근 가능한 핀 ID 조회 (공개 핀 + 본인 핀)
+    @Query("SELECT pt.pin.id FROM PinTag pt " +
+            "JOIN pt.pin p " +
+            "WHERE pt.tag.id IN :tagIds AND pt.deleted = false " +
+            "AND p.deleted = false AND (p.isPublic = true OR p.user.id = :userId) " +
+            "GROUP BY pt.pin.id " +
+            "HAVING COUNT(DISTINCT pt.tag.id) >= :minMatch " +
+            "ORDER BY pt.pin.id")
+    Slice<Long> findAccessiblePinIdsByTagIds(@Param("tagIds") Collection<Long> tagIds,
+                                             @Param("minMatch") long minMatch,
+                                             @Param("userId") Long userId,
+                                             Pageable pageable);
+
+    // 여러 핀에 연결된 태그를 한 번에 조회 (핀 목록 응답 조립용)
+    @Query("SELECT new com.back.pinco.domain.tag.dto.projection.PinTagRow(pt.pin.id, t.id, t.keyword, t.createdAt) " +
+            "FROM PinTag pt " +
             "JOIN pt.tag t " +
-            "WHERE t.keyword = :keyword AND pt.deleted = false")
-    List<Pin> findPinsByTagKeyword(@Param("keyword") String keyword);
-}
+            "WHERE pt.pin.id IN :pinIds " +
+            "ORDER BY pt.id")
+    List<PinTagRow> findTagRowsByPinIds(@Param("pinIds") Collection<Long> pinIds);
 
+    // 삭제된 핀들의 태그 연결을 한 번에 소프트 삭제 (회원 탈퇴 정리용)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE pin_tags SET is_deleted = TRUE, modified_at = :now " +
+            "WHERE pin_id = ANY(CAST(:pinIds AS bigint[])) AND is_deleted = FALSE", nativeQuery = true)
+    int softDeleteByPinIds(@Param("pinIds") Long[] pinIds, @Param("now") LocalDateTime now);
+}
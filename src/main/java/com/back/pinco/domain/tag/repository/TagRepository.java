@@ -1,15 +1,87 @@
 package com.back.pinco.domain.tag.repository;
 
+import com.back.pinco.domain.tag.dto.projection.TagIdRow;
+import com.back.pinco.domain.tag.dto.projection.TagUsageRow;
 import com.back.pinco.domain.tag.entity.Tag;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     // 키워드로 태그 조회
     Optional<Tag> findByKeyword(String keyword);
 
+    // 여러 키워드로 태그 조회
+    List<Tag> findByKeywordIn(Collection<String> keywords);
+
     // 키워드 존재 여부 확인
     boolean existsByKeyword(String keyword);
+
+    // 태그 ID·키워드·생성 시각 조회 (사전 캐시 예열용)
+    @Query("SELECT t.id AS id, t.keyword AS keyword, t.createdAt AS createdAt FROM Tag t ORDER BY t.id")
+    List<TagIdRow> findKeywordIds(Limit limit);
+
+    // 여러 키워드로 태그 ID·키워드·생성 시각 조회
+    @Query("SELECT t.id AS id, t.keyword AS keyword, t.createdAt AS createdAt FROM Tag t WHERE t.keyword IN :keywords")
+    List<TagIdRow> findKeywordIdsByKeywordIn(@Param("keywords") Collection<String> keywords);
+
+    /**
+     * 여러 키워드를 한 번에 upsert 하고 ID 를 돌려준다.
+     * 없는 키워드만 INSERT (ON CONFLICT DO NOTHING) 하므로 같은 키워드를 동시에 생성해도 unique 제약 위반이 나지 않는다.
+     * 동시에 다른 트랜잭션이 커밋한 키워드는 이 문장의 스냅샷에 보이지 않아 결과에서 빠질 수 있음 → 호출 측에서 다시 조회
+     * ID 는 TAG_SEQ 에서 직접 받아 쓰며, pooled 최적화기가 쓰는 구간과 겹치지 않는다.
+     */
+    @Transactional
+    @Query(value = """
+        WITH input AS (
+          SELECT DISTINCT k AS keyword FROM unnest(CAST(:keywords AS varchar[])) AS k
+        ),
+        ins AS (
+          INSERT INTO tags (tag_id, keyword, create_at, modified_at)
+          SELECT nextval('tag_seq'), i.keyword, now(), now()
+          FROM input i
+          ON CONFLICT (keyword) DO NOTHING
+          RETURNING tag_id, keyword, create_at
+        )
+        SELECT ins.tag_id AS "id", ins.keyword AS "keyword", ins.create_at AS "createdAt", TRUE AS "inserted" FROM ins
+        UNION ALL
+        SELECT t.tag_id AS "id", t.keyword AS "keyword", t.create_at AS "createdAt", FALSE AS "inserted"
+        FROM tags t
+        JOIN input i ON i.keyword = t.keyword
+        """, nativeQuery = true)
+    List<TagIdRow> upsertKeywords(@Param("keywords") String[] keywords);
+
+    // 전체 태그의 사용 횟수 (자동완성 색인 생성용)
+    @Query(value = """
+        SELECT t.tag_id AS "id", t.keyword AS "keyword", COUNT(p.pin_id) AS "usageCount"
+        FROM tags t
+        LEFT JOIN pin_tags pt ON pt.tag_id = t.tag_id AND pt.is_deleted = FALSE
+        LEFT JOIN pins p ON p.pin_id = pt.pin_id AND p.is_deleted = FALSE
+        GROUP BY t.tag_id, t.keyword
+        """, nativeQuery = true)
+    List<TagUsageRow> findAllUsage();
+
+    /**
+     * 접두어로 시작하는 태그를 사용 횟수 순으로 조회 (자동완성 색인이 준비되기 전 대체 경로)
+     * lower(keyword) text_pattern_ops 인덱스(db/migration)로 접두어 범위 검색
+     * @param pattern 소문자 접두어 + '%' (LIKE 특수문자는 '\' 로 이스케이프)
+     */
+    @Query(value = """
+        SELECT t.tag_id AS "id", t.keyword AS "keyword", COUNT(p.pin_id) AS "usageCount"
+        FROM tags t
+        LEFT JOIN pin_tags pt ON pt.tag_id = t.tag_id AND pt.is_deleted = FALSE
+        LEFT JOIN pins p ON p.pin_id = pt.pin_id AND p.is_deleted = FALSE
+        WHERE lower(t.keyword) LIKE :pattern ESCAPE '\\'
+        GROUP BY t.tag_id, t.keyword
+        ORDER BY "usageCount" DESC, t.keyword
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TagUsageRow> findUsageByKeywordPrefix(@Param("pattern") String pattern, @Param("limit") int limit);
 }
 
@@ -2,29 +2,39 @@ package com.back.pinco.domain.tag.service;
 
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.tag.dto.TagDto;
+import com.back.pinco.domain.tag.dto.request.TagMatchMode;
 import com.back.pinco.domain.tag.entity.PinTag;
 import com.back.pinco.domain.tag.entity.Tag;
 import com.back.pinco.domain.tag.repository.PinTagRepository;
-import com.back.pinco.domain.tag.repository.TagRepository;
+import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PinTagService {
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
 
-    private final TagRepository tagRepository;
     private final PinTagRepository pinTagRepository;
     private final PinRepository pinRepository;
+    private final TagDictionary tagDictionary;
 
     /* =====================================================
         주요 비즈니스 로직 (Public Method)
@@ -37,6 +47,7 @@ public class PinTagService {
         Pin pin = findPinById(pinId); // 핀 존재 여부 검증
         Tag tag = findOrCreateTag(keyword); // 태그 조회 또는 생성
         handleExistingPinTag(pinId, tag); // 기존 연결 처리
+        touchPin(pinId); // 변경 피드 반영
         return saveNewPinTag(pin, tag); // 새로운 핀-태그 연결 저장
     }
 
@@ -54,6 +65,7 @@ public class PinTagService {
     public void removeTagFromPin(Long pinId, Long tagId) {
         PinTag pinTag = findPinTagOrThrow(pinId, tagId); // 핀-태그 연결 조회
         deletePinTag(pinTag); // 핀-태그 연결 삭제
+        touchPin(pinId); // 변경 피드 반영
     }
 
     // 태그 복구
@@ -62,6 +74,7 @@ public class PinTagService {
         PinTag pinTag = findPinTagOrThrow(pinId, tagId); // 핀-태그 연결 조회
         validateDeletedState(pinTag); // 삭제 상태 검증
         restorePinTag(pinTag); // 핀-태그 연결 복구
+        touchPin(pinId); // 변경 피드 반영
     }
 
     // 여러 태그를 핀에 연결(PinController용)
@@ -69,17 +82,45 @@ public class PinTagService {
     public List<Tag> linkTagsToPin(Long pinId, List<String> tagKeywords) {
         validateKeywordList(tagKeywords); // 입력값 검증
         Pin pin = findPinById(pinId); // 핀 존재 여부 검증
+        touchPin(pinId); // 변경 피드 반영
         return processTagLinks(pin, tagKeywords); // 태그 연결 처리
     }
 
-    // 여러 태그로 핀 조회
+    // 여러 태그로 핀 조회 (ALL: 교집합, ANY: 합집합)
     @Transactional(readOnly = true)
-    public List<Pin> getPinsByMultipleTagKeywords(List<String> keywords) {
+    public Slice<Pin> getPinsByMultipleTagKeywords(List<String> keywords, TagMatchMode mode, int page, int size, User actor) {
         validateKeywordList(keywords); // 입력값 검증
-        List<List<Pin>> pinsByEachTag = findPinsByTags(keywords); // 태그별 핀 조회
-        List<Pin> intersection = intersectPins(pinsByEachTag); // 교집합 계산
-        validateResultPins(intersection); // 결과 검증
-        return intersection; // 핀 목록 반환
+        validatePage(page, size); // 페이지 검증
+        List<Long> tagIds = findTagIdsByKeywords(keywords); // 키워드별 태그 조회
+        if (mode == TagMatchMode.ALL) validateTagsLinked(tagIds); // 교집합은 모든 태그에 핀이 있어야 함
+        Slice<Long> pinIds = findPinIdsByTags(tagIds, mode, PageRequest.of(page, size), actor); // SQL 에서 교집합/합집합 계산
+        validateResultPins(pinIds.getContent()); // 결과 검증
+        return loadPinsInOrder(pinIds); // 핀 목록 반환
+    }
+
+    /**
+     * 여러 키워드를 한 번에 태그로 변환
+     * 태그(ID, 키워드, 생성 시각)는 사전 캐시에서 찾고 캐시에 없는 키워드만 upsert 1회, 모두 캐시에 있으면 조회하지 않는다.
+     * 반환하는 태그는 캐시 값으로 만든 비영속 엔티티로, 핀-태그 연결의 FK 와 응답에만 쓴다.
+     * (getReferenceById 프록시는 키워드·생성 시각에 접근할 때마다 태그별로 조회가 나감)
+     */
+    @Transactional
+    public Map<String, Tag> findOrCreateTags(Collection<String> keywords) {
+        List<String> distinctKeywords = keywords.stream()
+                .filter(keyword -> !io.micrometer.common.util.StringUtils.isBlank(keyword))
+                .distinct()
+                .toList();
+        if (distinctKeywords.isEmpty()) return Map.of();
+
+        Map<String, TagDto> tagsByKeyword;
+        try {
+            tagsByKeyword = tagDictionary.resolve(distinctKeywords);
+        } catch (Exception e) {
+            throw new ServiceException(ErrorCode.TAG_CREATE_FAILED);
+        }
+        return tagsByKeyword.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> new Tag(entry.getValue().id(), entry.getValue().keyword(), entry.getValue().createdAt())));
     }
 
     // 초기 데이터용 핀-태그 연결 생성
@@ -132,8 +173,22 @@ public class PinTagService {
         }
     }
 
+    // 페이지 검증
+    private void validatePage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_FILTER_PAGE_SIZE) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
+        }
+    }
+
+    // 모든 태그에 활성 핀-태그 연결이 있는지 검증
+    private void validateTagsLinked(List<Long> tagIds) {
+        if (pinTagRepository.findLinkedTagIds(tagIds).size() < tagIds.size()) {
+            throw new ServiceException(ErrorCode.PIN_TAG_LIST_EMPTY);
+        }
+    }
+
     // 결과 핀 리스트 검증
-    private void validateResultPins(List<Pin> pins) {
+    private void validateResultPins(List<Long> pins) {
         if (CollectionUtils.isEmpty(pins)) {
             throw new ServiceException(ErrorCode.TAG_POSTS_NOT_FOUND);
         }
@@ -149,8 +204,7 @@ public class PinTagService {
 
     // 태그 조회 또는 생성
     private Tag findOrCreateTag(String keyword) {
-        return tagRepository.findByKeyword(keyword)
-                .orElseGet(() -> tagRepository.save(new Tag(keyword)));
+        return findOrCreateTags(List.of(keyword)).get(keyword);
     }
 
     // 핀-태그 연결 조회
@@ -167,23 +221,30 @@ public class PinTagService {
                 .toList();
     }
 
-    // 여러 태그로 핀 조회
-    private List<List<Pin>> findPinsByTags(List<String> keywords) {
-        return keywords.stream()
-                .map(this::getPinsBySingleTagKeyword)
-                .toList();
+    // 키워드 목록으로 태그 ID 조회 (없는 키워드가 있으면 예외)
+    private List<Long> findTagIdsByKeywords(List<String> keywords) {
+        List<String> distinctKeywords = keywords.stream().distinct().toList();
+        Map<String, Long> tagIds = tagDictionary.findIds(distinctKeywords);
+        if (tagIds.size() < distinctKeywords.size()) {
+            throw new ServiceException(ErrorCode.TAG_NOT_FOUND);
+        }
+        return List.copyOf(tagIds.values());
     }
 
-    // 단일 태그 키워드로 핀 조회
-    private List<Pin> getPinsBySingleTagKeyword(String keyword) {
-        tagRepository.findByKeyword(keyword)
-                .orElseThrow(() -> new ServiceException(ErrorCode.TAG_NOT_FOUND));
-
-        List<Pin> pins = pinTagRepository.findPinsByTagKeyword(keyword);
-        if (CollectionUtils.isEmpty(pins)) {
-            throw new ServiceException(ErrorCode.PIN_TAG_LIST_EMPTY);
+    // 태그가 minMatch 개 이상 달린 핀 ID 조회
+    private Slice<Long> findPinIdsByTags(List<Long> tagIds, TagMatchMode mode, Pageable pageable, User actor) {
+        long minMatch = mode == TagMatchMode.ALL ? tagIds.size() : 1;
+        if (actor == null) {
+            return pinTagRepository.findPublicPinIdsByTagIds(tagIds, minMatch, pageable);
         }
-        return pins;
+        return pinTagRepository.findAccessiblePinIdsByTagIds(tagIds, minMatch, actor.getId(), pageable);
+    }
+
+    // 핀 ID 순서대로 핀 조회
+    private Slice<Pin> loadPinsInOrder(Slice<Long> pinIds) {
+        Map<Long, Pin> pinsById = pinRepository.findAllById(pinIds.getContent()).stream()
+                .collect(Collectors.toMap(Pin::getId, Function.identity()));
+        return pinIds.map(pinsById::get);
     }
 
     // ===== 조작 유틸 =====
@@ -231,16 +292,22 @@ public class PinTagService {
 
     // 태그 링크 처리
     private List<Tag> processTagLinks(Pin pin, List<String> tagKeywords) {
+        Map<String, Tag> tagsByKeyword = findOrCreateTags(tagKeywords); // 태그는 한 번에 조회/생성
         List<Tag> linkedTags = new ArrayList<>();
         for (String keyword : tagKeywords) {
             if (io.micrometer.common.util.StringUtils.isBlank(keyword)) continue;
-            Tag tag = findOrCreateTag(keyword);
+            Tag tag = tagsByKeyword.get(keyword);
             linkOrRestoreTag(pin, tag);
             linkedTags.add(tag);
         }
         return linkedTags;
     }
 
+    // 태그 연결이 바뀐 핀의 수정 시각 갱신 (/api/pins/changes 는 핀 수정 시각 기준)
+    private void touchPin(Long pinId) {
+        pinRepository.touchModifiedAt(pinId, LocalDateTime.now());
+    }
+
     // 태그 링크 또는 복구
     private void linkOrRestoreTag(Pin pin, Tag tag) {
         pinTagRepository.findByPin_IdAndTag_Id(pin.getId(), tag.getId())
@@ -251,16 +318,5 @@ public class PinTagService {
                         () -> pinTagRepository.save(new PinTag(pin, tag, false))
                 );
     }
-
-    // 태그별 핀 교집합 계산
-    private List<Pin> intersectPins(List<List<Pin>> pinsByEachTag) {
-        if (CollectionUtils.isEmpty(pinsByEachTag)) {
-            return Collections.emptyList();
-        }
-
-        List<Pin> result = new ArrayList<>(pinsByEachTag.get(0));
-        pinsByEachTag.stream().skip(1).forEach(result::retainAll);
-        return result;
-    }
 }
 
@@ -0,0 +1,184 @@
+package com.back.pinco.domain.tag.service;
+
+import com.back.pinco.domain.tag.dto.TagDto;
+import com.back.pinco.domain.tag.dto.projection.TagIdRow;
+import com.back.pinco.domain.tag.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 태그 키워드 → 태그(ID, 키워드, 생성 시각) 사전
+ * 자주 쓰는 태그는 캐시에서 바로 찾고, 없는 키워드는 한 번의 upsert 로 생성한다.
+ * 태그는 삭제·수정되지 않으므로 캐시 항목은 무효화하지 않고 크기 제한으로만 밀어낸다.
+ * (캐시에 있는 태그만 쓰는 요청은 tags 테이블을 조회하지 않는다)
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final int maxSize;
+    private final Cache<String, TagDto> tagsByKeyword;
+
+    public TagDictionary(
+            TagRepository tagRepository,
+            TagSuggestIndex tagSuggestIndex,
+            MeterRegistry meterRegistry,
+            @Value("${custom.tags.dictionary.maxSize:10000}") int maxSize
+    ) {
+        this.tagRepository = tagRepository;
+        this.tagSuggestIndex = tagSuggestIndex;
+        this.maxSize = maxSize;
+        this.tagsByKeyword = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tagsByKeyword, "tags.dictionary");
+    }
+
+    /** 기동 시 기존 태그로 캐시 채움 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<TagIdRow> rows = tagRepository.findKeywordIds(Limit.of(maxSize));
+        rows.forEach(row -> tagsByKeyword.put(row.getKeyword(), toDto(row)));
+        log.info("태그 사전 예열 완료 - {}건", rows.size());
+    }
+
+    /** 캐시 비움 (tags 테이블을 애플리케이션 밖에서 비우거나 다시 채운 경우) */
+    public void clear() {
+        tagsByKeyword.invalidateAll();
+    }
+
+    /** 키워드로 태그 ID 조회 (없으면 empty) */
+    public Optional<Long> findId(String keyword) {
+        return Optional.ofNullable(findIds(List.of(keyword)).get(keyword));
+    }
+
+    /**
+     * 여러 키워드의 태그 ID 조회 (캐시에 없는 키워드만 한 번에 조회)
+     * @return 키워드 → 태그 ID (존재하지 않는 키워드는 빠짐)
+     */
+    public Map<String, Long> findIds(Collection<String> keywords) {
+        Map<String, Long> ids = new HashMap<>();
+        find(keywords).forEach((keyword, tag) -> ids.put(keyword, tag.id()));
+        return ids;
+    }
+
+    /**
+     * 여러 키워드의 태그 조회, 없는 키워드는 생성
+     * @return 키워드 → 태그 (모든 키워드 포함)
+     */
+    public Map<String, TagDto> resolve(Collection<String> keywords) {
+        Map<String, TagDto> tags = new HashMap<>();
+        List<String> misses = collectCached(keywords, tags);
+        if (misses.isEmpty()) return tags;
+
+        Map<String, TagDto> inserted = new HashMap<>();
+        for (TagIdRow row : tagRepository.upsertKeywords(misses.toArray(String[]::new))) {
+            TagDto tag = toDto(row);
+            tags.put(row.getKeyword(), tag);
+            if (Boolean.TRUE.equals(row.getInserted())) {
+                inserted.put(row.getKeyword(), tag);
+            } else {
+                tagsByKeyword.put(row.getKeyword(), tag);
+            }
+        }
+        cacheAfterCommit(inserted);
+
+        // 동시에 다른 요청이 먼저 생성한 키워드는 upsert 결과에 없으므로 다시 조회
+        List<String> concurrent = misses.stream().filter(keyword -> !tags.containsKey(keyword)).toList();
+        if (!concurrent.isEmpty()) {
+            tags.putAll(find(concurrent));
+        }
+        return tags;
+    }
+
+    /**
+     * 키워드 하나를 새 태그로 생성
+     * @return 새로 생성한 태그 (이미 있는 키워드면 empty)
+     */
+    public Optional<TagDto> create(String keyword) {
+        if (tagsByKeyword.getIfPresent(keyword) != null) return Optional.empty();
+
+        Optional<TagIdRow> row = tagRepository.upsertKeywords(new String[]{keyword}).stream().findFirst();
+        if (row.isEmpty() || !Boolean.TRUE.equals(row.get().getInserted())) {
+            row.ifPresent(existing -> tagsByKeyword.put(existing.getKeyword(), toDto(existing)));
+            return Optional.empty();
+        }
+        TagDto tag = toDto(row.get());
+        cacheAfterCommit(Map.of(keyword, tag));
+        return Optional.of(tag);
+    }
+
+    // 여러 키워드의 태그 조회 (캐시에 없는 키워드만 한 번에 조회, 존재하지 않는 키워드는 빠짐)
+    private Map<String, TagDto> find(Collection<String> keywords) {
+        Map<String, TagDto> tags = new HashMap<>();
+        List<String> misses = collectCached(keywords, tags);
+        if (!misses.isEmpty()) {
+            tagRepository.findKeywordIdsByKeywordIn(misses).forEach(row -> {
+                TagDto tag = toDto(row);
+                tags.put(row.getKeyword(), tag);
+                tagsByKeyword.put(row.getKeyword(), tag);
+            });
+        }
+        return tags;
+    }
+
+    // 캐시에 있는 키워드는 tags 에 담고, 없는 키워드 목록 반환
+    private List<String> collectCached(Collection<String> keywords, Map<String, TagDto> tags) {
+        Set<String> misses = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            TagDto tag = tagsByKeyword.getIfPresent(keyword);
+            if (tag != null) {
+                tags.put(keyword, tag);
+            } else {
+                misses.add(keyword);
+            }
+        }
+        return List.copyOf(misses);
+    }
+
+    private TagDto toDto(TagIdRow row) {
+        return new TagDto(row.getId(), row.getKeyword(), row.getCreatedAt());
+    }
+
+    // 새로 생성한 태그는 롤백될 수 있으므로 커밋 이후에 캐시 (자동완성 색인에도 추가)
+    private void cacheAfterCommit(Map<String, TagDto> inserted) {
+        if (inserted.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheNow(inserted);
+                }
+            });
+            return;
+        }
+        cacheNow(inserted);
+    }
+
+    private void cacheNow(Map<String, TagDto> inserted) {
+        tagsByKeyword.putAll(inserted);
+        inserted.forEach((keyword, tag) -> tagSuggestIndex.add(tag.id(), keyword));
+    }
+}
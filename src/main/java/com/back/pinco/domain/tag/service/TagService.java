@@ -1,5 +1,7 @@
 package com.back.pinco.domain.tag.service;
 
+import com.back.pinco.domain.tag.dto.TagDto;
+import com.back.pinco.domain.tag.dto.TagSuggestionDto;
 import com.back.pinco.domain.tag.entity.Tag;
 import com.back.pinco.domain.tag.repository.TagRepository;
 import com.back.pinco.global.exception.ErrorCode;
@@ -11,12 +13,16 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class TagService {
+    private static final int MAX_SUGGEST_LIMIT = 20;
 
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final TagSuggestIndex tagSuggestIndex;
 
     /* =====================================================
         주요 비즈니스 로직 (Public Methods)
@@ -29,12 +35,21 @@ public class TagService {
         return tags; // 반환
     }
 
+    // 태그 자동완성 (접두어로 시작하는 태그를 사용 횟수 순으로)
+    @Transactional(readOnly = true)
+    public List<TagSuggestionDto> suggestTags(String prefix, int limit) {
+        validateKeyword(prefix);             // 입력값 검증
+        validateSuggestLimit(limit);         // 건수 검증
+        String normalized = TagSuggestIndex.normalize(prefix);
+        return tagSuggestIndex.suggest(normalized, limit)
+                .orElseGet(() -> findSuggestionsFromDb(normalized, limit)); // 색인 준비 전에는 DB 조회
+    }
+
     // 태그 생성
     @Transactional
     public Tag createTag(String keyword) {
         validateKeyword(keyword);            // 입력값 검증
-        checkDuplicateKeyword(keyword);      // 중복 검사
-        return saveNewTag(keyword);          // 저장
+        return saveNewTag(keyword);          // 저장 (이미 있는 키워드면 예외)
     }
 
     /* =====================================================
@@ -57,22 +72,37 @@ public class TagService {
         }
     }
 
-    // 중복 태그 키워드 검사
-    private void checkDuplicateKeyword(String keyword) {
-        if (tagRepository.existsByKeyword(keyword.trim())) {
-            throw new ServiceException(ErrorCode.TAG_ALREADY_EXISTS);
+    // 자동완성 건수 검증
+    private void validateSuggestLimit(int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new ServiceException(ErrorCode.INVALID_VALUE);
         }
     }
 
     // ===== 조회/생성 유틸 =====
 
-    // 새로운 태그 저장
+    // 접두어 인덱스로 자동완성 조회
+    private List<TagSuggestionDto> findSuggestionsFromDb(String prefix, int limit) {
+        String pattern = prefix
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return tagRepository.findUsageByKeywordPrefix(pattern, limit).stream()
+                .map(row -> new TagSuggestionDto(row.getId(), row.getKeyword(), row.getUsageCount()))
+                .toList();
+    }
+
+    // 새로운 태그 저장 (ON CONFLICT 로 중복 검사와 저장을 한 번에 처리, upsert 결과로 태그를 만들어 다시 조회하지 않음)
     private Tag saveNewTag(String keyword) {
+        Optional<TagDto> created;
         try {
-            return tagRepository.save(new Tag(keyword.trim()));
+            created = tagDictionary.create(keyword.trim());
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.TAG_CREATE_FAILED);
         }
+        return created
+                .map(tag -> new Tag(tag.id(), tag.keyword(), tag.createdAt()))
+                .orElseThrow(() -> new ServiceException(ErrorCode.TAG_ALREADY_EXISTS));
     }
 
     // 태그 전체 조회
@@ -0,0 +1,169 @@
+package com.back.pinco.domain.tag.service;
+
+import com.back.pinco.domain.tag.dto.TagSuggestionDto;
+import com.back.pinco.domain.tag.dto.projection.TagUsageRow;
+import com.back.pinco.domain.tag.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 태그 자동완성 색인
+ * 소문자 키워드 기준으로 정렬한 배열을 메모리에 두고 접두어 범위를 이진 탐색으로 찾는다.
+ * 조회는 잠금 없이 현재 배열을 읽고, 변경은 새 배열을 만들어 교체한다 (copy-on-write).
+ * 사용 횟수는 주기적으로 전체 다시 계산하고, 새 태그는 생성 시 바로 추가한다.
+ * 재계산 조회 이후에 추가된 태그는 새 배열에도 넣은 뒤 교체하므로 재계산 중 추가가 사라지지 않는다.
+ */
+@Slf4j
+@Component
+public class TagSuggestIndex {
+
+    // 정렬 기준: 소문자 키워드 → 태그 ID
+    private static final Comparator<Entry> KEY_ORDER = Comparator
+            .comparing(Entry::key)
+            .thenComparing(Entry::id);
+
+    // 추천 순서: 사용 횟수 내림차순 → 키워드 오름차순
+    private static final Comparator<Entry> RANK_ORDER = Comparator
+            .comparingLong(Entry::usageCount).reversed()
+            .thenComparing(Entry::keyword);
+
+    private final TagRepository tagRepository;
+    private volatile Entry[] entries;    // 색인 생성 전에는 null
+
+    // 배열 교체 순서 보장
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // 전체 재생성은 한 번에 하나만 (기동 시 재생성과 주기 재생성이 겹치지 않도록)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private List<Entry> addedDuringRebuild;    // 재생성 중 추가된 태그 (writeLock 으로 보호, 재생성 중이 아니면 null)
+
+    public TagSuggestIndex(TagRepository tagRepository) {
+        this.tagRepository = tagRepository;
+    }
+
+    /** 키워드 정규화 (대소문자 구분 없이 접두어 비교) */
+    public static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** 색인 전체 다시 생성 (기동 시, 주기적으로) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${custom.tags.suggest.rebuildIntervalMs:60000}",
+            fixedDelayString = "${custom.tags.suggest.rebuildIntervalMs:60000}"
+    )
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            // 조회 전에 기록을 시작해야 조회 결과에 빠진 추가분을 모두 잡을 수 있음
+            writeLock.lock();
+            try {
+                addedDuringRebuild = new ArrayList<>();
+            } finally {
+                writeLock.unlock();
+            }
+
+            List<TagUsageRow> rows = tagRepository.findAllUsage();
+            Entry[] rebuilt = rows.stream()
+                    .map(row -> new Entry(normalize(row.getKeyword()), row.getId(), row.getKeyword(), row.getUsageCount()))
+                    .sorted(KEY_ORDER)
+                    .toArray(Entry[]::new);
+
+            writeLock.lock();
+            try {
+                for (Entry added : addedDuringRebuild) {
+                    rebuilt = insert(rebuilt, added);    // 조회에 이미 포함된 태그는 그대로 (사용 횟수 유지)
+                }
+                entries = rebuilt;
+            } finally {
+                writeLock.unlock();
+            }
+            log.debug("태그 자동완성 색인 생성 - {}건", rebuilt.length);
+        } finally {
+            writeLock.lock();
+            try {
+                addedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+            rebuildLock.unlock();
+        }
+    }
+
+    /** 새 태그 추가 (사용 횟수 0) */
+    public void add(Long id, String keyword) {
+        Entry entry = new Entry(normalize(keyword), id, keyword, 0);
+        writeLock.lock();
+        try {
+            if (addedDuringRebuild != null) addedDuringRebuild.add(entry);    // 진행 중인 재생성 결과에도 반영
+            if (entries != null) entries = insert(entries, entry);    // 색인 생성 전이면 생성 시 함께 읽힘
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 정렬 위치에 끼운 새 배열 (같은 키워드/ID 가 이미 있으면 그대로 반환)
+    private static Entry[] insert(Entry[] current, Entry entry) {
+        int idx = Arrays.binarySearch(current, entry, KEY_ORDER);
+        if (idx >= 0) return current;
+
+        int insertAt = -idx - 1;
+        Entry[] next = new Entry[current.length + 1];
+        System.arraycopy(current, 0, next, 0, insertAt);
+        next[insertAt] = entry;
+        System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+        return next;
+    }
+
+    /**
+     * 접두어로 시작하는 태그를 사용 횟수 순으로 limit 건 조회
+     * @param prefix normalize() 한 접두어
+     * @return 추천 목록, 색인이 아직 없으면 empty → DB 조회
+     */
+    public Optional<List<TagSuggestionDto>> suggest(String prefix, int limit) {
+        Entry[] current = entries;
+        if (current == null) return Optional.empty();
+
+        // 접두어 이상인 첫 위치부터 접두어가 맞는 동안만 훑으며 상위 limit 건 유지
+        PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+        for (int i = lowerBound(current, prefix); i < current.length && current[i].key().startsWith(prefix); i++) {
+            top.offer(current[i]);
+            if (top.size() > limit) top.poll();
+        }
+
+        List<Entry> ranked = new ArrayList<>(top);
+        ranked.sort(RANK_ORDER);
+        return Optional.of(ranked.stream()
+                .map(entry -> new TagSuggestionDto(entry.id(), entry.keyword(), entry.usageCount()))
+                .toList());
+    }
+
+    // key >= prefix 인 첫 위치
+    private int lowerBound(Entry[] sorted, String prefix) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].key().compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private record Entry(String key, Long id, String keyword, long usageCount) {
+    }
+}
@@ -3,7 +3,6 @@ package com.back.pinco.domain.user.controller;
 import com.back.pinco.domain.likes.dto.PinsLikedByUserResponse;
 import com.back.pinco.domain.likes.service.LikesService;
 import com.back.pinco.domain.pin.dto.PinDto;
-import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.user.dto.UserDto;
 import com.back.pinco.domain.user.dto.UserReqBody.*;
 import com.back.pinco.domain.user.dto.UserResBody.*;
@@ -12,6 +11,7 @@ import com.back.pinco.domain.user.service.AuthService;
 import com.back.pinco.domain.user.service.UserService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.page.CursorPage;
 import com.back.pinco.global.rq.Rq;
 import com.back.pinco.global.rsData.RsData;
 import com.back.pinco.global.security.JwtTokenProvider;
@@ -178,29 +178,33 @@ public class UserController {
         );
     }
 
-    @Operation(summary = "마이페이지", description = "로그인한 회원이 작성한 핀 개수 및 목록, 북마크한 핀 개수 및 목록, 받은 좋아요 수를 조회합니다.")
+    @Operation(summary = "사용자가 좋아요 등록한 핀 목록 조회 (커서 페이지)", description = "지정된 userId를 가진 사용자가 좋아요한 핀 목록을 최신순으로 limit 건씩 반환합니다.")
+    @GetMapping(value = "/{userId}/likespins", params = "limit")
+    public RsData<CursorPage<PinsLikedByUserResponse>> getPinsLikedByUserByCursor(
+            @PathVariable("userId") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit
+    ) {
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다", likesService.getPinsLikedByUser(userId, cursor, limit)
+        );
+    }
+
+    @Operation(summary = "마이페이지", description = "로그인한 회원이 작성한 핀 개수(공개/비공개), 북마크한 핀 개수, 받은 좋아요 수를 조회합니다.")
     @GetMapping("/mypage")
     public RsData<MyPageResponse> myPage() {
         // 로그인 사용자
         User user = rq.getActor();
-        List<Pin> listPin = userService.getMyPins(); // DB 접근은 한 번만
         if (user == null) {
             throw new ServiceException(ErrorCode.AUTH_REQUIRED);
         }
-        // 2) 내가 작성한 핀 개수
-        int pinCount = listPin.size();
-
-        // 3) 내가 북마크한 핀 개수
-        int bookmarkCount = userService.getMyBookmarks().size();
-
-        // 내가 지금까지 받은 총 '좋아요 수'
-        long likesCount = userService.likesCount(listPin);
 
+        // 핀/북마크/좋아요 수는 user_stats 에서 한 번에 조회
         return new RsData<>(
                 "200",
                 "마이페이지 조회 성공",
-                new MyPageResponse(
-                        new UserDto(user), pinCount, bookmarkCount, likesCount)
+                new MyPageResponse(new UserDto(user), userService.getMyStats())
                 );
     }
 
@@ -231,5 +235,18 @@ public class UserController {
                 new MyBookmarkResponse(bookmarkList)
         );
     }
+
+    @Operation(summary = "북마크 조회 (커서 페이지)", description = "로그인한 회원이 북마크한 핀을 최신순으로 limit 건씩 조회합니다.")
+    @GetMapping(value = "/mybookmark", params = "limit")
+    public RsData<CursorPage<PinDto>> myBookmarkByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit
+    ) {
+        return new RsData<>(
+                "200",
+                "북마크한 게시물을 조회했습니다.",
+                userService.bookmarkList(cursor, limit)
+        );
+    }
 }
 
@@ -1,29 +1,26 @@
 package com.back.pinco.domain.user.dto.UserResBody;
 
-import com.back.pinco.domain.bookmark.dto.BookmarkDto;
-import com.back.pinco.domain.pin.dto.PinDto;
 import com.back.pinco.domain.user.dto.UserDto;
-
-import java.util.List;
+import com.back.pinco.domain.user.entity.UserStats;
 
 public record MyPageResponse(
         String email,
         String userName,
-        int myPinCount,
-        int bookmarkCount,
+        long myPinCount,
+        long publicPinCount,
+        long privatePinCount,
+        long bookmarkCount,
         long likesCount
 ) {
-    public MyPageResponse(UserDto userDto,
-                          int myPinCount,
-                          int bookmarkCount,
-                          long likesCount) {
+    public MyPageResponse(UserDto userDto, UserStats stats) {
         this(
                 userDto.email(),
                 userDto.userName(),
-                myPinCount,
-                bookmarkCount,
-                likesCount
+                stats.getPinCount(),
+                stats.getPublicPinCount(),
+                stats.getPrivatePinCount(),
+                stats.getBookmarkCount(),
+                stats.getLikesReceived()
         );
     }
 }
-
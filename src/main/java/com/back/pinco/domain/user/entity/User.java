@@ -12,8 +12,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 @Setter
 @Table(
-        name = "users",
-        indexes = @Index(name = "idx_user_email", columnList = "email")
+        name = "users"    // email 은 unique 제약으로 조회 (db/migration)
 )
 @EntityListeners(AuditingEntityListener.class)
 @SequenceGenerator(
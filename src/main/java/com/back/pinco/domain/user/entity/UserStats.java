@@ -0,0 +1,46 @@
+package com.back.pinco.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마이페이지용 사용자 통계 (읽기 모델)
+ * 핀/좋아요/북마크 변경 시 증감으로 갱신하고, 어긋난 값은 UserStatsService 의 주기 작업이 다시 맞춘다.
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;    // 사용자 ID (users.user_id)
+
+    @Column(name = "pin_count", nullable = false)
+    private long pinCount = 0;    // 작성한 핀 수 (삭제 제외)
+
+    @Column(name = "public_pin_count", nullable = false)
+    private long publicPinCount = 0;    // 그중 공개 핀 수
+
+    @Column(name = "bookmark_count", nullable = false)
+    private long bookmarkCount = 0;    // 북마크 수 (삭제 제외)
+
+    @Column(name = "likes_received", nullable = false)
+    private long likesReceived = 0;    // 작성한 핀이 받은 좋아요 수
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();    // 마지막 갱신 시각
+
+    public UserStats(Long userId) {
+        this.userId = userId;
+    }
+
+    // 비공개 핀 수
+    public long getPrivatePinCount() {
+        return Math.max(pinCount - publicPinCount, 0);
+    }
+}
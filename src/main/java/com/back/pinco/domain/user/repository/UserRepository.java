@@ -2,8 +2,11 @@ package com.back.pinco.domain.user.repository;
 
 import com.back.pinco.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +18,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUserNameAndIdNot(String userName, Long id);
     Optional<User> findByApiKey(String apiKey);
     boolean existsByApiKey(String key);
+
+    // 탈퇴했지만 아직 정리되지 않은 좋아요·핀·북마크가 남은 사용자 ID (정리 실패분 재처리용)
+    @Query(value = """
+        SELECT u.user_id FROM users u
+        WHERE u.is_deleted = TRUE
+          AND (EXISTS (SELECT 1 FROM pins p WHERE p.user_id = u.user_id AND p.is_deleted = FALSE)
+            OR EXISTS (SELECT 1 FROM likes l WHERE l.user_id = u.user_id AND l.is_liked = TRUE)
+            OR EXISTS (SELECT 1 FROM bookmarks b WHERE b.user_id = u.user_id AND b.is_deleted = FALSE))
+        ORDER BY u.user_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findDeletedUserIdsWithLiveData(@Param("limit") int limit);
 }
@@ -0,0 +1,100 @@
+package com.back.pinco.domain.user.repository;
+
+import com.back.pinco.domain.user.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    // 통계 행 생성 (이미 있으면 그대로 둠)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_stats (user_id, pin_count, public_pin_count, bookmark_count, likes_received, updated_at)
+        VALUES (:userId, 0, 0, 0, 0, now())
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId);
+
+    // 통계 증감 반영 (행 단위 UPDATE 한 번이라 동시에 들어온 증감끼리 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE user_stats
+        SET pin_count = GREATEST(pin_count + :pins, 0),
+            public_pin_count = GREATEST(public_pin_count + :publicPins, 0),
+            bookmark_count = GREATEST(bookmark_count + :bookmarks, 0),
+            likes_received = GREATEST(likes_received + :likes, 0),
+            updated_at = now()
+        WHERE user_id = :userId
+        """, nativeQuery = true)
+    int applyDelta(
+            @Param("userId") Long userId,
+            @Param("pins") long pins,
+            @Param("publicPins") long publicPins,
+            @Param("bookmarks") long bookmarks,
+            @Param("likes") long likes
+    );
+
+    // 핀별 좋아요 증감을 작성자별로 합쳐 반영 (삭제된 핀의 좋아요는 이미 빠졌으므로 제외)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE user_stats s
+        SET likes_received = GREATEST(s.likes_received + d.delta, 0),
+            updated_at = now()
+        FROM (
+          SELECT p.user_id, SUM(x.delta) AS delta
+          FROM unnest(CAST(:pinIds AS bigint[]), CAST(:deltas AS bigint[])) AS x(pin_id, delta)
+          JOIN pins p ON p.pin_id = x.pin_id
+          WHERE p.is_deleted = FALSE
+          GROUP BY p.user_id
+        ) d
+        WHERE s.user_id = d.user_id
+        """, nativeQuery = true)
+    int applyLikesReceivedDeltas(@Param("pinIds") Long[] pinIds, @Param("deltas") Long[] deltas);
+
+    // 전체 사용자 통계를 원본 테이블 기준으로 다시 계산
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO user_stats (user_id, pin_count, public_pin_count, bookmark_count, likes_received, updated_at)
+        SELECT u.user_id,
+               COALESCE(p.pin_count, 0),
+               COALESCE(p.public_pin_count, 0),
+               COALESCE(b.bookmark_count, 0),
+               COALESCE(l.likes_received, 0),
+               now()
+        FROM users u
+        LEFT JOIN (
+          SELECT user_id, COUNT(*) AS pin_count, COUNT(*) FILTER (WHERE is_public) AS public_pin_count
+          FROM pins
+          WHERE is_deleted = FALSE
+          GROUP BY user_id
+        ) p ON p.user_id = u.user_id
+        LEFT JOIN (
+          SELECT user_id, COUNT(*) AS bookmark_count
+          FROM bookmarks
+          WHERE is_deleted = FALSE
+          GROUP BY user_id
+        ) b ON b.user_id = u.user_id
+        LEFT JOIN (
+          SELECT p.user_id, COUNT(*) AS likes_received
+          FROM likes l
+          JOIN pins p ON p.pin_id = l.pin_id
+          WHERE l.is_liked = TRUE AND p.is_deleted = FALSE
+          GROUP BY p.user_id
+        ) l ON l.user_id = u.user_id
+        WHERE u.is_deleted = FALSE
+        ON CONFLICT (user_id) DO UPDATE
+        SET pin_count = EXCLUDED.pin_count,
+            public_pin_count = EXCLUDED.public_pin_count,
+            bookmark_count = EXCLUDED.bookmark_count,
+            likes_received = EXCLUDED.likes_received,
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int reconcileAll();
+}
@@ -0,0 +1,174 @@
+package com.back.pinco.domain.user.service;
+
+import com.back.pinco.domain.bookmark.repository.BookmarkRepository;
+import com.back.pinco.domain.likes.repository.LikesRepository;
+import com.back.pinco.domain.likes.service.LikesCountBuffer;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.pin.service.PinTileCache;
+import com.back.pinco.domain.pin.service.PinTrendingIndex;
+import com.back.pinco.domain.tag.repository.PinTagRepository;
+import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.domain.user.repository.UserStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴한 사용자의 좋아요·핀·북마크·핀 태그 정리
+ * 행 단위로 읽어 고치지 않고 CHUNK_SIZE 건씩 UPDATE 한 번으로 처리하며,
+ * 좋아요가 취소된 핀의 좋아요 수는 묶음마다 한 번의 UPDATE 로 다시 계산한다.
+ * 첫 묶음은 탈퇴 트랜잭션 안에서 정리하고(대부분의 사용자는 여기서 끝남), 데이터가 남으면 커밋 이후 비동기로 이어서 정리한다.
+ * 도중에 실패한 사용자는 주기적인 sweep 이 다시 정리한다.
+ */
+@Slf4j
+@Component
+public class UserDataPurger {
+    static final int CHUNK_SIZE = 500;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final LikesRepository likesRepository;
+    private final PinRepository pinRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PinTagRepository pinTagRepository;
+    private final UserRepository userRepository;
+    private final UserStatsRepository userStatsRepository;
+    private final LikesCountBuffer likesCountBuffer;
+    private final PinTileCache pinTileCache;
+    private final PinTrendingIndex pinTrendingIndex;
+    private final TransactionTemplate chunkTransaction;    // 묶음마다 새 트랜잭션
+
+    private final Set<Long> purging = ConcurrentHashMap.newKeySet();    // 정리 중인 사용자 (비동기 정리와 sweep 중복 방지)
+
+    public UserDataPurger(
+            LikesRepository likesRepository,
+            PinRepository pinRepository,
+            BookmarkRepository bookmarkRepository,
+            PinTagRepository pinTagRepository,
+            UserRepository userRepository,
+            UserStatsRepository userStatsRepository,
+            LikesCountBuffer likesCountBuffer,
+            PinTileCache pinTileCache,
+            PinTrendingIndex pinTrendingIndex,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.likesRepository = likesRepository;
+        this.pinRepository = pinRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.pinTagRepository = pinTagRepository;
+        this.userRepository = userRepository;
+        this.userStatsRepository = userStatsRepository;
+        this.likesCountBuffer = likesCountBuffer;
+        this.pinTileCache = pinTileCache;
+        this.pinTrendingIndex = pinTrendingIndex;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 탈퇴 트랜잭션 안에서 호출 : 현재 트랜잭션에서 한 묶음 정리 (탈퇴와 함께 커밋/롤백)
+     * @return 정리할 데이터가 더 남지 않았으면 true (남았으면 커밋 이후 purge 로 이어서 정리)
+     */
+    public boolean purgeFirstChunk(Long userId) {
+        return likesCountBuffer.flushAndGet(() -> purgeChunkNow(userId));
+    }
+
+    /**
+     * 탈퇴 커밋 이후 호출 : 남은 데이터가 없을 때까지 묶음마다 별도 트랜잭션으로 정리
+     * @return 처리한 묶음 수 (실패 시 예외로 완료, 남은 데이터는 sweep 이 이어서 정리)
+     */
+    @Async
+    public CompletableFuture<Integer> purge(Long userId) {
+        try {
+            return CompletableFuture.completedFuture(purgeNow(userId));
+        } catch (Exception e) {
+            log.error("탈퇴 회원 데이터 정리 실패 - 다음 sweep 에서 다시 정리합니다. userId={}", userId, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /** 탈퇴했지만 데이터가 남은 사용자 재정리 (비동기 정리 실패, 정리 중 재시작 등) */
+    @Scheduled(
+            initialDelayString = "${custom.users.purgeSweepIntervalMs:600000}",
+            fixedDelayString = "${custom.users.purgeSweepIntervalMs:600000}"
+    )
+    public void sweep() {
+        for (Long userId : userRepository.findDeletedUserIdsWithLiveData(SWEEP_BATCH_SIZE)) {
+            try {
+                purgeNow(userId);
+            } catch (Exception e) {
+                log.error("탈퇴 회원 데이터 재정리 실패 - userId={}", userId, e);
+            }
+        }
+    }
+
+    private int purgeNow(Long userId) {
+        if (!purging.add(userId)) return 0;    // 이미 다른 스레드가 정리 중
+        try {
+            int chunks = 0;
+            boolean done = false;
+            while (!done) {
+                done = purgeChunk(userId);
+                chunks++;
+            }
+            log.info("탈퇴 회원 데이터 정리 완료 - userId={}, {}묶음", userId, chunks);
+            return chunks;
+        } finally {
+            purging.remove(userId);
+        }
+    }
+
+    /**
+     * 종류별로 한 묶음씩 정리
+     * 버퍼에 남은 좋아요 증감을 먼저 반영하고 다음 반영을 막은 상태에서 좋아요 수를 다시 계산하므로
+     * 증감이 재계산 값과 겹치거나 빠지지 않는다.
+     * @return 정리할 데이터가 더 남지 않았으면 true
+     */
+    private boolean purgeChunk(Long userId) {
+        return likesCountBuffer.flushAndGet(() -> Boolean.TRUE.equals(chunkTransaction.execute(status -> purgeChunkNow(userId))));
+    }
+
+    // 현재 트랜잭션에서 한 묶음 정리
+    private boolean purgeChunkNow(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        int likes = revokeLikes(userId, now);
+        int pins = deletePins(userId, now);
+        int bookmarks = bookmarkRepository.softDeleteByUserId(userId, now, CHUNK_SIZE);
+        return likes < CHUNK_SIZE && pins < CHUNK_SIZE && bookmarks < CHUNK_SIZE;
+    }
+
+    // 좋아요 취소 → 해당 핀 좋아요 수 재계산 → 핀 작성자의 받은 좋아요 수 차감
+    private int revokeLikes(Long userId, LocalDateTime now) {
+        List<Long> pinIds = likesRepository.revokeLikesByUserId(userId, now, CHUNK_SIZE);
+        if (pinIds.isEmpty()) return 0;
+
+        Long[] ids = pinIds.toArray(Long[]::new);
+        Long[] deltas = new Long[ids.length];
+        Arrays.fill(deltas, -1L);
+
+        pinRepository.refreshLikeCountBatch(ids);
+        userStatsRepository.applyLikesReceivedDeltas(ids, deltas);
+        return pinIds.size();
+    }
+
+    // 핀 소프트 삭제 → 해당 핀의 태그 연결 소프트 삭제 → 캐시/인기 색인에서 제거
+    private int deletePins(Long userId, LocalDateTime now) {
+        List<Long> pinIds = pinRepository.softDeleteByUserId(userId, now, CHUNK_SIZE);
+        if (pinIds.isEmpty()) return 0;
+
+        pinTagRepository.softDeleteByPinIds(pinIds.toArray(Long[]::new), now);
+        pinTileCache.evictAll();
+        pinIds.forEach(pinTrendingIndex::remove);
+        return pinIds.size();
+    }
+}
@@ -5,22 +5,27 @@ import com.back.pinco.domain.bookmark.entity.Bookmark;
 import com.back.pinco.domain.bookmark.repository.BookmarkRepository;
 import com.back.pinco.domain.bookmark.service.BookmarkService;
 import com.back.pinco.domain.likes.repository.LikesRepository;
-import com.back.pinco.domain.likes.service.LikesService;
 import com.back.pinco.domain.pin.dto.PinDto;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.pin.service.PinReadService;
 import com.back.pinco.domain.pin.service.PinService;
 import com.back.pinco.domain.user.dto.UserResBody.MyPinResponse;
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.entity.UserStats;
 import com.back.pinco.domain.user.repository.UserRepository;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.page.CursorPage;
 import com.back.pinco.global.rq.Rq;
+import com.back.pinco.global.security.AuthPrincipalCache;
 import com.back.pinco.global.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,9 +39,12 @@ public class UserService {
     private final UserRepository userRepository;
     private final JwtTokenProvider tokenProvider;
     private final BookmarkService bookmarkService;
-    private final LikesService likesService;
     private final PinService pinService;
+    private final PinReadService pinReadService;
     private final Rq rq;
+    private final AuthPrincipalCache authPrincipalCache;
+    private final UserStatsService userStatsService;
+    private final UserDataPurger userDataPurger;
 
     @Transactional
     public String ensureApiKey(User user) {
@@ -78,6 +86,7 @@ public class UserService {
         User user = new User(email, hashedPwd, userName);
         userRepository.save(user);
         ensureApiKey(user);
+        userStatsService.init(user.getId());
         return user;
     }
 
@@ -147,9 +156,21 @@ public class UserService {
 
         User managed = userRepository.findById(user.getId())
                 .orElseThrow(() -> new ServiceException(ErrorCode.USER_NOT_FOUND));
+        Long userId = managed.getId();
         managed.setDeleted(true);
-        pinService.updateDeleteByUser(managed.getId());
-        likesService.updateDeleteUserLikedFalse(managed.getId());
+        authPrincipalCache.evict(userId);
+
+        // 좋아요·핀·북마크는 첫 묶음만 탈퇴 트랜잭션에서 정리하고,
+        // 남은 데이터는 커밋 이후 비동기로 묶음 단위 정리 (탈퇴 트랜잭션이 오래 잠금을 잡지 않도록)
+        if (!userDataPurger.purgeFirstChunk(userId)) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDataPurger.purge(userId);
+                }
+            });
+        }
+        userStatsService.remove(userId);
     }
 
 
@@ -214,6 +235,7 @@ public class UserService {
         } else  {
             throw new ServiceException(ErrorCode.NO_FIELDS_TO_UPDATE);
         }
+        authPrincipalCache.evict(userId);
     }
 
     @Transactional(readOnly = true)
@@ -245,12 +267,11 @@ public class UserService {
         return bookmarkService.getMyBookmarks(user.getId());
     }
 
-    @Transactional
-    public int likesCount(List<Pin> listPin) {
-        int totalLikesReceived = listPin.stream()
-                .mapToInt(pin -> likesService.getLikesCount(pin.getId()))
-                .sum();
-        return totalLikesReceived;
+    // 마이페이지 통계 (user_stats 단건 조회)
+    @Transactional(readOnly = true)
+    public UserStats getMyStats() {
+        User user = rq.getActor();
+        return userStatsService.getStats(user.getId());
     }
 
     @Transactional(readOnly = true)
@@ -261,17 +282,15 @@ public class UserService {
         List<Pin> accessible = pinService.findByUserId(user, user);
 
         // 공개: isPublic == true
-        List<PinDto> publicDtos = accessible.stream()
+        List<PinDto> publicDtos = pinReadService.toDtos(accessible.stream()
                 .filter(p -> Boolean.TRUE.equals(p.getIsPublic()))
-                .map(PinDto::new)
-                .toList();
+                .toList());
 
         // 비공개: isPublic != true && "내 것"만
-        List<PinDto> privateDtos = accessible.stream()
+        List<PinDto> privateDtos = pinReadService.toDtos(accessible.stream()
                 .filter(p -> !Boolean.TRUE.equals(p.getIsPublic()))
                 .filter(p -> p.getUser() != null && p.getUser().getId().equals(user.getId()))
-                .map(PinDto::new)
-                .toList();
+                .toList());
 
         return new MyPinResponse(publicDtos, privateDtos);
     }
@@ -284,4 +303,16 @@ public class UserService {
         return bookmarkList;
     }
 
+    // 북마크한 핀 목록 (최신순, 커서 페이지)
+    @Transactional(readOnly = true)
+    public CursorPage<PinDto> bookmarkList(String cursor, int limit) {
+        User user = rq.getActor();
+        CursorPage<BookmarkDto> page = bookmarkService.getMyBookmarks(user.getId(), cursor, limit);
+        return new CursorPage<>(
+                page.content().stream().map(BookmarkDto::pin).toList(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
+
 }
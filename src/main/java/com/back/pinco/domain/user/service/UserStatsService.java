@@ -0,0 +1,105 @@
+package com.back.pinco.domain.user.service;
+
+import com.back.pinco.domain.likes.service.LikesCountBuffer;
+import com.back.pinco.domain.user.entity.UserStats;
+import com.back.pinco.domain.user.repository.UserStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 사용자 통계(user_stats) 관리
+ * 핀/북마크 변경은 호출한 트랜잭션 안에서 증감으로 반영하고,
+ * 좋아요 증감은 LikesCountBuffer 가 핀 좋아요 수와 함께 모아서 반영한다.
+ */
+@Slf4j
+@Service
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final LikesCountBuffer likesCountBuffer;
+    private final boolean reconcileOnStartup;
+
+    public UserStatsService(
+            UserStatsRepository userStatsRepository,
+            LikesCountBuffer likesCountBuffer,
+            @Value("${custom.userStats.reconcileOnStartup:true}") boolean reconcileOnStartup
+    ) {
+        this.userStatsRepository = userStatsRepository;
+        this.likesCountBuffer = likesCountBuffer;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    /** 사용자 통계 조회 (행이 아직 없으면 0) */
+    @Transactional(readOnly = true)
+    public UserStats getStats(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> new UserStats(userId));
+    }
+
+    /** 회원가입 시 통계 행 생성 */
+    public void init(Long userId) {
+        userStatsRepository.insertIfAbsent(userId);
+    }
+
+    /** 회원 탈퇴 시 통계 행 삭제 */
+    public void remove(Long userId) {
+        userStatsRepository.deleteById(userId);
+    }
+
+    /** 핀 생성 (새 핀은 공개 상태로 생성됨) */
+    public void pinsCreated(Long userId, int count) {
+        if (count == 0) return;
+        userStatsRepository.applyDelta(userId, count, count, 0, 0);
+    }
+
+    /** 핀 공개 여부 변경 */
+    public void pinVisibilityChanged(Long userId, boolean nowPublic) {
+        userStatsRepository.applyDelta(userId, 0, nowPublic ? 1 : -1, 0, 0);
+    }
+
+    /** 핀 삭제 (해당 핀이 받은 좋아요 중 pins.like_count 에 반영된 만큼 함께 뺌) */
+    public void pinDeleted(Long userId, boolean wasPublic, long likes) {
+        userStatsRepository.applyDelta(userId, -1, wasPublic ? -1 : 0, 0, -likes);
+    }
+
+    /** 북마크 추가(+1)/삭제(-1) */
+    public void bookmarkChanged(Long userId, int delta) {
+        if (delta == 0) return;
+        userStatsRepository.applyDelta(userId, 0, 0, delta, 0);
+    }
+
+    /** 작성자별 받은 좋아요 증감 반영 (작성자 ID → 증감) */
+    public void likesReceivedChanged(Map<Long, Long> deltaByWriterId) {
+        deltaByWriterId.forEach((writerId, delta) -> {
+            if (delta != 0) userStatsRepository.applyDelta(writerId, 0, 0, 0, delta);
+        });
+    }
+
+    /**
+     * 원본 테이블 기준으로 전체 통계 재계산 (증감 누락·중복으로 어긋난 값 보정)
+     * 버퍼에 남은 좋아요 증감을 먼저 반영해 재계산 값에 같은 증감이 두 번 더해지지 않게 한다.
+     */
+    @Scheduled(
+            initialDelayString = "${custom.userStats.reconcileIntervalMs:3600000}",
+            fixedDelayString = "${custom.userStats.reconcileIntervalMs:3600000}"
+    )
+    public void reconcile() {
+        likesCountBuffer.flushAndRun(() -> {
+            int updated = userStatsRepository.reconcileAll();
+            log.info("사용자 통계 재계산 완료 - {}건", updated);
+        });
+    }
+
+    /** 기동 시 통계 재계산 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) reconcile();
+    }
+}
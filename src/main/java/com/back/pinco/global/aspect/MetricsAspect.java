@@ -0,0 +1,62 @@
+package com.back.pinco.global.aspect;
+
+import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.metrics.SqlStatementCounter;
+import com.back.pinco.global.rsData.RsData;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 계측
+ * 컨트롤러 메서드마다 처리 시간(엔드포인트 + RsData 결과 코드별)과 요청 중 실행된 SQL 수를 기록한다.
+ * ResponseAspect 와 같은 메서드를 감싸며, 예외로 끝난 요청도 결과 코드를 붙여 기록하도록 가장 바깥에서 실행한다.
+ * 조회: 관리 포트(management.server.port)의 /actuator/prometheus 에서 pinco_api_latency_seconds, pinco_api_sql_statements
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("com.back.pinco.global.aspect.ResponseAspect.controllerMethods()")
+    public Object metricsAspect(ProceedingJoinPoint joinPoint) throws Throwable {
+        String endpoint = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SqlStatementCounter.start();
+        String code = "500";
+        try {
+            Object rst = joinPoint.proceed();
+            code = rst instanceof RsData<?> rsData ? rsData.getErrorCode() : "200";
+            return rst;
+        } catch (ServiceException e) {
+            code = String.valueOf(e.getErrorCode().getCode());
+            throw e;
+        } finally {
+            int statements = SqlStatementCounter.stop();
+            sample.stop(Timer.builder("pinco.api.latency")
+                    .description("컨트롤러 처리 시간")
+                    .tag("endpoint", endpoint)
+                    .tag("code", code)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            DistributionSummary.builder("pinco.api.sql.statements")
+                    .description("요청 하나에서 실행된 SQL 수")
+                    .tag("endpoint", endpoint)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.back.pinco.global.aspect;
+
+import com.back.pinco.global.datasource.ReplicationRoutingDataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ReadFromPrimary 메서드 실행 동안 DataSource 라우팅을 primary 로 고정
+ * 커넥션은 트랜잭션 안 첫 SQL 에서 받으므로 트랜잭션 인터셉터(LOWEST_PRECEDENCE)보다 바깥에서 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.back.pinco.global.datasource.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReplicationRoutingDataSource.forcePrimary(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicationRoutingDataSource.forcePrimary(previous);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
 @Aspect
@@ -15,7 +16,8 @@ public class ResponseAspect {
 
     private final HttpServletResponse response;
 
-    @Around("""
+    // 컨트롤러 요청 처리 메서드 (MetricsAspect 와 공유)
+    @Pointcut("""
             (
                 within
                 (
@@ -35,6 +37,10 @@ public class ResponseAspect {
             ||
             @annotation(org.springframework.web.bind.annotation.ResponseBody)
             """)
+    public void controllerMethods() {
+    }
+
+    @Around("controllerMethods()")
     public Object responseAspect(ProceedingJoinPoint joinPoint) throws Throwable {
 
         Object rst = joinPoint.proceed(); // 실제 수행 메서드
@@ -0,0 +1,37 @@
+package com.back.pinco.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * AsyncCache 적재 도우미
+ * 캐시에는 아직 완료되지 않은 future 만 넣고 실제 조회는 호출 스레드에서 캐시 잠금 밖에서 실행한다.
+ * (Cache.get(key, loader) 처럼 잠금을 잡은 채 DB 를 조회하지 않아 가상 스레드가 고정되지 않음)
+ * 적재 중에 invalidate 되면 future 가 캐시에서 빠지므로 조회 결과가 무효화를 덮어쓰지 않고,
+ * 같은 키를 동시에 조회한 요청은 먼저 시작한 조회 결과를 기다린다.
+ */
+public final class CacheLoader {
+
+    private CacheLoader() {
+    }
+
+    /** 캐시 조회, 없으면 loader 로 적재 (null 이나 예외는 캐시에 남지 않음) */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future != created) {
+            return future.join();    // 캐시 적중 또는 다른 요청이 적재 중
+        }
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
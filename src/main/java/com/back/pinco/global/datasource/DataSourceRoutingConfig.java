@@ -0,0 +1,97 @@
+package com.back.pinco.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 DataSource 구성
+ * custom.datasource.replica.jdbc-url 이 설정된 경우에만 적용되고, 없으면 spring.datasource 하나만 사용한다.
+ * primary 풀은 spring.datasource(.hikari), replica 풀은 custom.datasource.replica 의 Hikari 설정을 따른다.
+ * 로컬 확인: --spring.profiles.active=replica (같은 DB 에 풀 두 개)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "custom.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("custom.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${custom.datasource.stickyMs:3000}") long stickyMs
+    ) {
+        return new ReadYourWritesTracker(Duration.ofMillis(stickyMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(readYourWritesTracker);
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.Target.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.Target.REPLICA, replicaDataSource
+        ));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        // 기본값을 지정해 두어 프록시 생성 시 커넥션을 미리 받지 않도록 함
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    // 트랜잭션이 끝나면 커넥션을 반납해 다음 트랜잭션이 다시 라우팅되도록 함
+    // (기본값은 세션이 닫힐 때까지 유지 → open-in-view 요청에서 먼저 받은 replica 커넥션으로 쓰기가 실행될 수 있음)
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // 쓰기 문장을 실행한 트랜잭션만 read-your-writes 기록
+    // 먼저 등록된 StatementInspector(SqlStatementCounter)를 감싸야 하므로 customizer 중 마지막에 실행
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public HibernatePropertiesCustomizer writeStatementInspectorCustomizer(ReadYourWritesTracker readYourWritesTracker) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new WriteStatementInspector(
+                readYourWritesTracker,
+                properties.get(AvailableSettings.STATEMENT_INSPECTOR) instanceof StatementInspector existing ? existing : null));
+    }
+}
@@ -0,0 +1,16 @@
+package com.back.pinco.global.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 읽기 전용 트랜잭션이어도 primary 에서 조회
+ * 복제 지연을 허용할 수 없는 조회(변경 피드 등)에 붙인다. replica 를 쓰지 않는 구성에서는 영향 없음.
+ * (ReadFromPrimaryAspect 가 트랜잭션보다 바깥에서 표시)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromPrimary {
+}
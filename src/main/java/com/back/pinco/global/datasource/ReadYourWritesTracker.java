@@ -0,0 +1,42 @@
+package com.back.pinco.global.datasource;
+
+import com.back.pinco.domain.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 읽기 보장 (read-your-writes)
+ * 사용자의 쓰기 트랜잭션이 커밋되면 일정 시간(stickyWindow) 동안 그 사용자의 읽기를 primary 로 보내
+ * 복제 지연 중인 replica 에서 방금 쓴 데이터가 안 보이는 일이 없게 한다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;   // 최근 쓰기 사용자 ID (stickyWindow 후 만료)
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    /** 쓰기 커밋 기록 */
+    public void markWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    /** 최근에 쓰기를 커밋한 사용자인지 */
+    public boolean isSticky(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+    /** 현재 요청의 로그인 사용자 ID (비로그인, 스케줄러 등 요청 밖이면 null) */
+    public static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) return null;
+        return auth.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+}
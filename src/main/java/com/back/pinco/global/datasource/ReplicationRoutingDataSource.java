@@ -0,0 +1,52 @@
+package com.back.pinco.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 종류로 primary / replica 선택
+ * - 읽기 전용 트랜잭션 → replica (단, 최근에 쓰기를 커밋한 사용자와 @ReadFromPrimary 조회는 primary)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖 조회) → primary
+ * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 받아야 읽기 전용 여부가 정해져 있으므로
+ * LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * 쓰기 커밋 기록은 실제로 쓰기 문장을 실행한 트랜잭션만 WriteStatementInspector 가 남긴다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicationRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    /**
+     * 현재 스레드의 조회를 읽기 전용이어도 primary 로 보낼지 설정 (@ReadFromPrimary)
+     * @return 이전 설정 (작업이 끝나면 이 값으로 되돌림)
+     */
+    public static boolean forcePrimary(boolean forced) {
+        boolean previous = Boolean.TRUE.equals(PRIMARY_FORCED.get());
+        if (forced) {
+            PRIMARY_FORCED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_FORCED.remove();
+        }
+        return previous;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(PRIMARY_FORCED.get())) {
+            return Target.PRIMARY;
+        }
+        Long userId = ReadYourWritesTracker.currentUserId();
+        if (userId != null && readYourWritesTracker.isSticky(userId)) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+}
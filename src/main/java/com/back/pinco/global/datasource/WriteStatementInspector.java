@@ -0,0 +1,61 @@
+package com.back.pinco.global.datasource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.regex.Pattern;
+
+/**
+ * 쓰기 문장(INSERT/UPDATE/DELETE, 쓰기 CTE)을 실행한 트랜잭션이 커밋되면 해당 사용자를 read-your-writes 대상으로 기록
+ * 쓰기 트랜잭션이라도 조회만 하고 끝나면 기록하지 않아 불필요하게 primary 로 읽지 않는다.
+ * 이미 등록된 StatementInspector(SQL 수 집계 등)가 있으면 감싸서 함께 호출한다.
+ */
+public class WriteStatementInspector implements StatementInspector {
+
+    private static final Pattern WRITE = Pattern.compile(
+            "^\\s*(insert|update|delete|merge)\\b|^\\s*with\\b.*\\b(insert|update|delete)\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final StatementInspector delegate;
+
+    public WriteStatementInspector(ReadYourWritesTracker readYourWritesTracker, StatementInspector delegate) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String inspected = delegate == null ? sql : delegate.inspect(sql);
+        if (WRITE.matcher(inspected).find()) {
+            markWrite();
+        }
+        return inspected;
+    }
+
+    // 트랜잭션마다 한 번만 커밋 이후 기록을 등록
+    private void markWrite() {
+        Long userId = ReadYourWritesTracker.currentUserId();
+        if (userId == null) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            readYourWritesTracker.markWrite(userId);    // 트랜잭션 밖 (auto-commit)
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) return;
+
+        TransactionSynchronizationManager.bindResource(this, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WriteStatementInspector.this);
+            }
+        });
+    }
+}
@@ -9,6 +9,7 @@ public enum ErrorCode {
     // 공통 0000번대
     SUCCESS(200, HttpStatus.OK, "성공적으로 처리되었습니다."),
     INVALID_VALUE(400, HttpStatus.BAD_REQUEST, "입력값이 잘못되었습니다."),
+    INVALID_CURSOR(410, HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
 
     // PIN 도메인_1000번대
     INVALID_PIN_INPUT(1001, HttpStatus.BAD_REQUEST, "잘못된 핀 입력값입니다."),
@@ -21,6 +22,7 @@ public enum ErrorCode {
     PIN_UPDATE_FAILED(1008, HttpStatus.INTERNAL_SERVER_ERROR, "핀 수정 중 오류가 발생했습니다."),
     PIN_DELETE_FAILED(1009, HttpStatus.INTERNAL_SERVER_ERROR, "핀 삭제 중 오류가 발생했습니다."),
     PIN_NO_PERMISSION(1010, HttpStatus.FORBIDDEN, "핀 생성,수정 권한이 없습니다."),
+    INVALID_BOUNDING_BOX(1011, HttpStatus.BAD_REQUEST, "잘못된 지도 영역입니다."),
 
     // User 도메인_2000번대
     INVALID_EMAIL_FORMAT(2001, HttpStatus.BAD_REQUEST, "이메일 형식이 올바르지 않습니다."),
@@ -42,11 +42,11 @@ public class InitData {
 
     @Transactional
     public void work() {
-//        if (pinService.count() > 0) return;
         /**
-         * application.yml의 ddl-auto: create 설정으로
-         * 애플리케이션 시작 시 초기 데이터로 재생성 -> 시퀀스도 초기화
+         * 스키마는 Flyway 마이그레이션으로 만들고 데이터는 재시작해도 유지되므로
+         * 핀이 하나도 없는 빈 DB 에서만 초기 데이터 생성
          */
+        if (pinService.count() > 0) return;
 
         double baseLat = 37.5665; // ✅ 서울시청 기준 위도
         double baseLng = 126.9780; // ✅ 서울시청 기준 경도
@@ -31,4 +31,9 @@ public abstract class BaseEntity {
     @LastModifiedBy
     private long modifiedBy;
 
+    // DB 에서 읽은 값을 캐시해 두었다가 엔티티를 다시 만들 때 사용 (감사 필드는 원래 Auditing 이 채움)
+    protected void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
 }
@@ -0,0 +1,18 @@
+package com.back.pinco.global.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class MetricsConfig {
+
+    // 요청별 SQL 실행 수 집계용 StatementInspector 등록 (다른 customizer 가 감쌀 수 있도록 먼저 실행)
+    @Bean
+    @Order(0)
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
@@ -0,0 +1,32 @@
+package com.back.pinco.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청별 SQL 실행 수 집계
+ * Hibernate 가 문장을 준비할 때마다 호출되며, start() ~ stop() 사이에 같은 스레드에서 준비된 문장 수를 센다.
+ * (요청 하나는 한 스레드에서 처리되므로 ThreadLocal 로 충분)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    /** 집계 시작 */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** 집계 종료 후 시작 이후 준비된 문장 수 반환 */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) count[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,29 @@
+package com.back.pinco.global.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * @param content 현재 페이지 항목
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * limit + 1 건을 조회한 결과로 페이지를 만든다.
+     * @param fetched limit + 1 건까지 조회한 목록
+     * @param limit 페이지 크기
+     * @param cursorOf 항목에서 커서 값을 꺼내는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > limit;
+        List<T> content = hasNext ? fetched.subList(0, limit) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+}
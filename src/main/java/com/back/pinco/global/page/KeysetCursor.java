@@ -0,0 +1,44 @@
+package com.back.pinco.global.page;
+
+import com.back.pinco.global.exception.ErrorCode;
+import com.back.pinco.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시각, ID) 기반 keyset 커서
+ * 클라이언트에는 내부 값을 노출하지 않도록 base64url 문자열로 주고받는다.
+ * @param time 마지막 항목의 정렬 시각 (생성 시각, 수정 시각 등)
+ * @param id 마지막 항목의 ID (시각이 같을 때 순서 결정)
+ */
+public record KeysetCursor(
+        LocalDateTime time,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor encode() 로 만든 문자열 (비어 있으면 첫 페이지로 보고 null 반환)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new ServiceException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
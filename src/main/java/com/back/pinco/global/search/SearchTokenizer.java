@@ -0,0 +1,80 @@
+package com.back.pinco.global.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 전문 검색용 토큰 생성기
+ * 한글/한자/가나는 형태소 분석 없이 2글자씩 끊어(bigram) 조사가 붙은 어절도 찾을 수 있게 하고,
+ * 그 밖의 문자·숫자는 공백/기호 단위 단어를 소문자로 그대로 쓴다.
+ * 생성한 토큰은 pins.search_tokens 에 공백으로 이어 저장되고, to_tsvector('simple', ...) 로 색인된다.
+ */
+public class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    /** 텍스트를 공백으로 구분된 토큰 문자열로 변환 (중복 제거, 등장 순서 유지) */
+    public static String tokenize(String text) {
+        return String.join(" ", tokens(text));
+    }
+
+    /** 텍스트의 토큰 집합 */
+    public static Set<String> tokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) return tokens;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean runIsCjk = false;
+        for (int i = 0; i < lower.length(); ) {
+            int codePoint = lower.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, runIsCjk, tokens);
+                continue;
+            }
+            boolean cjk = isCjk(codePoint);
+            if (run.length() > 0 && cjk != runIsCjk) {
+                flush(run, runIsCjk, tokens);
+            }
+            runIsCjk = cjk;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, runIsCjk, tokens);
+        return tokens;
+    }
+
+    // 한 덩어리(같은 종류 문자 연속)를 토큰으로 변환
+    private static void flush(StringBuilder run, boolean cjk, Set<String> tokens) {
+        if (run.length() == 0) return;
+
+        String word = run.toString();
+        run.setLength(0);
+        if (!cjk) {
+            tokens.add(word);
+            return;
+        }
+
+        int length = word.codePointCount(0, word.length());
+        if (length == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int start = 0; start < length - 1; start++) {
+            int from = word.offsetByCodePoints(0, start);
+            int to = word.offsetByCodePoints(from, 2);
+            tokens.add(word.substring(from, to));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
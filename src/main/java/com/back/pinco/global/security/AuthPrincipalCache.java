@@ -0,0 +1,90 @@
+package com.back.pinco.global.security;
+
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.global.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증 필터용 사용자 캐시
+ * 요청마다 users 테이블을 조회하지 않도록 userId / apiKey 로 찾은 사용자를 일정 시간 보관한다.
+ * 회원 정보 수정, 탈퇴 시 evict 로 무효화한다.
+ * 탈퇴한 사용자는 캐시에 올리지 않으므로 access 토큰, apiKey 모두 인증되지 않는다.
+ */
+@Component
+public class AuthPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final AsyncCache<Long, User> usersById;           // userId → 사용자
+    private final AsyncCache<String, Long> userIdsByApiKey;   // apiKey → userId
+
+    public AuthPrincipalCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${custom.auth.cache.ttlSeconds:300}") long ttlSeconds,
+            @Value("${custom.auth.cache.maxSize:10000}") long maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        this.userIdsByApiKey = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "auth.usersById");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByApiKey, "auth.userIdsByApiKey");
+    }
+
+    // userId 로 사용자 조회 (없거나 탈퇴한 사용자는 캐시하지 않음)
+    // 적재 중에 evict 되면 조회 결과는 캐시에 남지 않음 (CacheLoader)
+    public Optional<User> findById(Long userId) {
+        return Optional.ofNullable(CacheLoader.get(usersById, userId,
+                () -> userRepository.findById(userId).filter(user -> !user.isDeleted()).orElse(null)));
+    }
+
+    /**
+     * apiKey 로 사용자 조회 (없으면 캐시하지 않음)
+     * apiKey → userId 매핑은 사용자 evict 로 지워지지 않으므로, 찾은 사용자의 현재 apiKey 와 다시 비교해
+     * 키가 바뀌었거나 탈퇴한 사용자면 매핑을 지우고 인증하지 않는다.
+     */
+    public Optional<User> findByApiKey(String apiKey) {
+        Long userId = CacheLoader.get(userIdsByApiKey, apiKey,
+                () -> userRepository.findByApiKey(apiKey).map(User::getId).orElse(null));
+        if (userId == null) return Optional.empty();
+
+        Optional<User> user = findById(userId).filter(found -> apiKey.equals(found.getApiKey()));
+        if (user.isEmpty()) userIdsByApiKey.synchronous().invalidate(apiKey);
+        return user;
+    }
+
+    /**
+     * 사용자 캐시 무효화
+     * 트랜잭션 안이면 커밋 이후에도 한 번 더 지움 (커밋 전에 다른 요청이 예전 값을 다시 올리는 경우 대비)
+     */
+    public void evict(Long userId) {
+        usersById.synchronous().invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    usersById.synchronous().invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.back.pinco.global.security;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.service.UserService;
 import com.back.pinco.global.exception.ErrorCode;
-import com.back.pinco.global.exception.ServiceException;
 import com.back.pinco.global.rq.Rq;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,7 +17,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -27,6 +25,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserService userService;
     private final JwtTokenProvider tokenProvider;
+    private final AuthPrincipalCache authPrincipalCache;
     private final Rq rq;
 
     private static final List<String> PERMIT_PATHS = List.of(
@@ -81,15 +80,14 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // access 토큰 검사 → 유저
+        // access 토큰 검사(검증+파싱 1회) → 유저 (캐시 우선)
         User user = null;
         boolean accessValid = false;
 
-        if (hasAccess && tokenProvider.isValid(accessToken)) {
-            Map<String, Object> payload = tokenProvider.payloadOrNull(accessToken);
-            if (payload != null) {
-                long id = ((Number) payload.get("id")).longValue();
-                Optional<User> u = userService.findByIdOptional(id);
+        if (hasAccess) {
+            Long id = tokenProvider.userIdOrNull(accessToken);
+            if (id != null) {
+                Optional<User> u = authPrincipalCache.findById(id);
                 if (u.isPresent()) {
                     user = u.get();
                     accessValid = true;
@@ -99,12 +97,12 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
         // 토큰이 없거나 무효면 apiKey로 대체 인증
         if (user == null && hasApiKey) {
-            try {
-                user = userService.findByApiKey(apiKey);
-            } catch (ServiceException e) {
+            Optional<User> u = authPrincipalCache.findByApiKey(apiKey);
+            if (u.isEmpty()) {
                 write401(res, ErrorCode.INVALID_API_KEY);
                 return;
             }
+            user = u.get();
         }
 
 
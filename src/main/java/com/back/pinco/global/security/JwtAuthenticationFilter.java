@@ -1,7 +1,6 @@
 package com.back.pinco.global.security;
 
 import com.back.pinco.domain.user.entity.User;
-import com.back.pinco.domain.user.repository.UserRepository;
 import com.back.pinco.global.rq.Rq;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,7 +21,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final AuthPrincipalCache authPrincipalCache;
     private final Rq rq;
 
     @Override
@@ -54,9 +53,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             accessToken = rq.getCookieValue("accessToken", "");
         }
 
-        if (accessToken != null && !accessToken.isBlank() && tokenProvider.isValid(accessToken)) {
-            Long userId = tokenProvider.getUserId(accessToken);
-            userRepository.findById(userId).ifPresent(user -> {
+        Long userId = (accessToken == null || accessToken.isBlank()) ? null : tokenProvider.userIdOrNull(accessToken);
+        if (userId != null) {
+            authPrincipalCache.findById(userId).ifPresent(user -> {
                 var auth = new UsernamePasswordAuthenticationToken(
                         user, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
                 SecurityContextHolder.getContext().setAuthentication(auth);
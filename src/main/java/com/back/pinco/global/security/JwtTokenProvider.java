@@ -16,6 +16,7 @@ public class JwtTokenProvider {
     private final Key key;                 // 서명/검증용 키(한 번 생성 후 재사용)
     private final long accessExpMs;        // 액세스 토큰 만료(ms)
     private final long refreshExpMs;       // 리프레시 토큰 만료(ms)
+    private final JwtParser parser;        // 검증용 파서(스레드 안전, 한 번 생성 후 재사용)
 
     public JwtTokenProvider(
             @Value("${custom.jwt.secret}") String secret,
@@ -26,6 +27,7 @@ public class JwtTokenProvider {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessExpMs = accessExpireSeconds * 1000L;
         this.refreshExpMs = refreshExpireSeconds * 1000L;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 토큰 발급
@@ -67,6 +69,7 @@ public class JwtTokenProvider {
         return Long.valueOf(parser().parseClaimsJws(token).getBody().getSubject());
     }
 
+    // 검증과 파싱을 한 번에 처리 (유효하지 않으면 null)
     public Map<String, Object> payloadOrNull(String token) {
         try {
             Claims c = parser().parseClaimsJws(token).getBody();
@@ -81,8 +84,17 @@ public class JwtTokenProvider {
         }
     }
 
+    // 유효한 토큰이면 사용자 ID, 아니면 null
+    public Long userIdOrNull(String token) {
+        try {
+            return Long.valueOf(parser().parseClaimsJws(token).getBody().getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private JwtParser parser() {
-        return Jwts.parserBuilder().setSigningKey(key).build();
+        return parser;
     }
 
     // 남은 토큰 유효 시간
@@ -0,0 +1,150 @@
+-- 초기 스키마 (엔티티 매핑과 같은 테이블/컬럼, 인덱스는 리포지토리 쿼리 조건에 맞춤)
+-- 대부분의 조회가 is_deleted = false (좋아요는 is_liked = true) 조건을 가지므로
+-- 선택도가 낮은 boolean 단일 인덱스 대신 해당 조건을 건 부분 인덱스를 사용한다.
+
+CREATE EXTENSION IF NOT EXISTS postgis;
+
+-- ===== 시퀀스 (엔티티 @SequenceGenerator allocationSize = 50) =====
+CREATE SEQUENCE user_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE pin_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE like_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE bookmark_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE tag_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE pin_tag_seq START WITH 1 INCREMENT BY 50;
+
+-- ===== 사용자 =====
+CREATE TABLE users (
+    user_id     BIGINT       NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    username    VARCHAR(50)  NOT NULL,
+    api_key     VARCHAR(64),
+    is_deleted  BOOLEAN      NOT NULL DEFAULT FALSE,
+    create_at   TIMESTAMP(6) NOT NULL,
+    create_by   BIGINT       NOT NULL DEFAULT 0,
+    modified_at TIMESTAMP(6),
+    modified_by BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_users PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_email UNIQUE (email),        -- 로그인 조회 (findByEmail)
+    CONSTRAINT uk_user_api_key UNIQUE (api_key)     -- API 키 인증
+);
+
+-- 마이페이지 통계 (UserStatsService 가 증감으로 갱신)
+CREATE TABLE user_stats (
+    user_id          BIGINT       NOT NULL,
+    pin_count        BIGINT       NOT NULL DEFAULT 0,
+    public_pin_count BIGINT       NOT NULL DEFAULT 0,
+    bookmark_count   BIGINT       NOT NULL DEFAULT 0,
+    likes_received   BIGINT       NOT NULL DEFAULT 0,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_user_stats PRIMARY KEY (user_id)
+);
+
+-- ===== 핀 =====
+CREATE TABLE pins (
+    pin_id          BIGINT                 NOT NULL,
+    point           geography(Point, 4326) NOT NULL,
+    content         TEXT,
+    search_tokens   TEXT,                                  -- SearchTokenizer 로 변환한 내용 (한글 bigram)
+    search_vector   tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(search_tokens, ''))) STORED,
+    user_id         BIGINT                 NOT NULL,
+    like_count      INTEGER                NOT NULL DEFAULT 0,
+    trend_score     DOUBLE PRECISION       NOT NULL DEFAULT 0,
+    trend_scored_at TIMESTAMP(6),
+    is_public       BOOLEAN                NOT NULL DEFAULT TRUE,
+    is_deleted      BOOLEAN                NOT NULL DEFAULT FALSE,
+    create_at       TIMESTAMP(6)           NOT NULL,
+    create_by       BIGINT                 NOT NULL DEFAULT 0,
+    modified_at     TIMESTAMP(6),
+    modified_by     BIGINT                 NOT NULL DEFAULT 0,
+    CONSTRAINT pk_pins PRIMARY KEY (pin_id),
+    CONSTRAINT fk_pin_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+-- 반경/화면 영역 조회 (ST_DWithin, &&) : B-tree 는 공간 연산자에 쓰이지 않으므로 GiST
+CREATE INDEX idx_pin_point ON pins USING GIST (point) WHERE NOT is_deleted;
+-- 작성자별 핀 목록·기간 조회, 탈퇴 회원 핀 정리
+CREATE INDEX idx_pin_user_created ON pins (user_id, create_at) WHERE NOT is_deleted;
+-- 공개 핀 전체 목록 (pin_id keyset, /api/pins/all)
+CREATE INDEX idx_pin_public_id ON pins (pin_id) WHERE is_public AND NOT is_deleted;
+-- 인기 점수가 있는 공개 핀 (기동 시 인기 색인 적재)
+CREATE INDEX idx_pin_trending ON pins (trend_scored_at) WHERE trend_score > 0 AND is_public AND NOT is_deleted;
+-- 내용 전문 검색
+CREATE INDEX idx_pin_search_vector ON pins USING GIN (search_vector) WHERE NOT is_deleted;
+-- 변경 피드 (/api/pins/changes) : 삭제된 핀도 내려가야 하므로 부분 인덱스가 아님
+CREATE INDEX idx_pin_modified ON pins (modified_at, pin_id);
+
+-- ===== 좋아요 =====
+CREATE TABLE likes (
+    like_id     BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    pin_id      BIGINT       NOT NULL,
+    is_liked    BOOLEAN      NOT NULL DEFAULT TRUE,
+    create_at   TIMESTAMP(6) NOT NULL,
+    create_by   BIGINT       NOT NULL DEFAULT 0,
+    modified_at TIMESTAMP(6),
+    modified_by BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_likes PRIMARY KEY (like_id),
+    CONSTRAINT uk_like_user_pin UNIQUE (user_id, pin_id),    -- 사용자·핀별 좋아요 조회
+    CONSTRAINT fk_like_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_like_pin FOREIGN KEY (pin_id) REFERENCES pins (pin_id)
+);
+
+-- 사용자가 좋아요한 핀 목록 (최신순 keyset), 좋아요 수, 탈퇴 회원 좋아요 취소
+CREATE INDEX idx_like_user_liked ON likes (user_id, like_id) WHERE is_liked;
+-- 핀의 좋아요 수 재계산, 핀을 좋아요한 사용자 목록 (최신순 keyset)
+CREATE INDEX idx_like_pin_liked ON likes (pin_id, like_id) WHERE is_liked;
+
+-- ===== 북마크 =====
+CREATE TABLE bookmarks (
+    bookmark_id BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    pin_id      BIGINT       NOT NULL,
+    is_deleted  BOOLEAN      NOT NULL DEFAULT FALSE,
+    create_at   TIMESTAMP(6) NOT NULL,
+    create_by   BIGINT       NOT NULL DEFAULT 0,
+    modified_at TIMESTAMP(6),
+    modified_by BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_bookmarks PRIMARY KEY (bookmark_id),
+    CONSTRAINT uk_bookmark_user_pin UNIQUE (user_id, pin_id),    -- 사용자·핀별 북마크 조회
+    CONSTRAINT fk_bookmark_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_bookmark_pin FOREIGN KEY (pin_id) REFERENCES pins (pin_id)
+);
+
+-- 사용자별 북마크 목록 (최신순 keyset), 탈퇴 회원 북마크 정리
+CREATE INDEX idx_bookmark_user_created ON bookmarks (user_id, create_at, bookmark_id) WHERE NOT is_deleted;
+-- 핀 기준 북마크 조회 (핀 삭제 시 외래 키 확인 포함)
+CREATE INDEX idx_bookmark_pin ON bookmarks (pin_id);
+
+-- ===== 태그 =====
+CREATE TABLE tags (
+    tag_id      BIGINT       NOT NULL,
+    keyword     VARCHAR(50)  NOT NULL,
+    create_at   TIMESTAMP(6) NOT NULL,
+    create_by   BIGINT       NOT NULL DEFAULT 0,
+    modified_at TIMESTAMP(6),
+    modified_by BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_tags PRIMARY KEY (tag_id),
+    CONSTRAINT uk_tag_keyword UNIQUE (keyword)    -- 키워드 조회, upsert (ON CONFLICT (keyword))
+);
+
+-- 태그 자동완성 대체 경로 (lower(keyword) LIKE 'prefix%')
+CREATE INDEX idx_tag_keyword_prefix ON tags (lower(keyword) text_pattern_ops);
+
+CREATE TABLE pin_tags (
+    pin_tag_id  BIGINT       NOT NULL,
+    pin_id      BIGINT       NOT NULL,
+    tag_id      BIGINT       NOT NULL,
+    is_deleted  BOOLEAN      NOT NULL DEFAULT FALSE,
+    create_at   TIMESTAMP(6) NOT NULL,
+    create_by   BIGINT       NOT NULL DEFAULT 0,
+    modified_at TIMESTAMP(6),
+    modified_by BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_pin_tags PRIMARY KEY (pin_tag_id),
+    CONSTRAINT uk_pin_tag UNIQUE (pin_id, tag_id),    -- 핀별 태그 조회
+    CONSTRAINT fk_pin_tag_pin FOREIGN KEY (pin_id) REFERENCES pins (pin_id),
+    CONSTRAINT fk_pin_tag_tag FOREIGN KEY (tag_id) REFERENCES tags (tag_id)
+);
+
+-- 태그별 핀 조회 (다중 태그 필터, 태그 사용 횟수)
+CREATE INDEX idx_pin_tag_tag ON pin_tags (tag_id, pin_id) WHERE NOT is_deleted;
@@ -0,0 +1,4 @@
+-- 화면 영역(bbox) 조회는 경위도 평면 사각형으로 거른다 (ST_Intersects(point::geometry, envelope))
+-- geography && 는 사각형 변을 대권 호로 보므로 넓은 영역, 날짜변경선 근처에서 결과가 어긋난다.
+-- 반경 조회(ST_DWithin geography)는 계속 idx_pin_point 를 쓰고, bbox 조회는 이 식 인덱스를 쓴다.
+CREATE INDEX idx_pin_point_geom ON pins USING GIST ((point::geometry)) WHERE NOT is_deleted;
@@ -0,0 +1,5 @@
+-- 핀이 다른 사용자에게 보이지 않게 된 시각 (공개 핀의 비공개 전환 또는 삭제)
+-- 변경 피드(/api/pins/changes)는 since 이후 숨겨진 핀만 삭제 표시로 내려준다.
+-- (처음부터 비공개였던 다른 사용자의 핀은 삭제 표시로도 내려가지 않아 위치가 드러나지 않음)
+-- 기존 행은 언제 숨겨졌는지 알 수 없어 비워 둔다. 이 시점 이전의 숨김은 삭제 표시로 내려가지 않는다.
+ALTER TABLE pins ADD COLUMN hidden_at TIMESTAMP(6);
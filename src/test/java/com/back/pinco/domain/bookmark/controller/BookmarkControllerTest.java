@@ -6,16 +6,21 @@ import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.repository.PinRepository;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -197,6 +202,44 @@ class BookmarkControllerTest {
     }
 
 
+    @Test
+    @DisplayName("t2_4. 나의 북마크 목록 조회 성공 (커서 페이지)")
+    void t2_4() throws Exception {
+        User user1 = userRepository.findByEmail("user1@example.com").orElseThrow();
+        List<Long> expectedIds = bookmarkRepository.findVisibleByUserId(user1.getId(), Limit.unlimited()).stream()
+                .map(Bookmark::getId)
+                .toList();
+
+        // 첫 페이지
+        String firstPage = mvc.perform(
+                get("/api/bookmarks")
+                        .param("limit", "2")
+                        .header("Authorization", getAuthHeader(user1))
+        ).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(Math.min(2, expectedIds.size())))
+                .andExpect(jsonPath("$.data.hasNext").value(expectedIds.size() > 2))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Integer> ids = new ArrayList<>(JsonPath.read(firstPage, "$.data.content[*].id"));
+        String cursor = JsonPath.read(firstPage, "$.data.nextCursor");
+
+        // 나머지 페이지
+        while (cursor != null) {
+            String page = mvc.perform(
+                    get("/api/bookmarks")
+                            .param("limit", "2")
+                            .param("cursor", cursor)
+                            .header("Authorization", getAuthHeader(user1))
+            ).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            ids.addAll(JsonPath.read(page, "$.data.content[*].id"));
+            cursor = JsonPath.read(page, "$.data.nextCursor");
+        }
+
+        assertThat(ids.stream().map(Integer::longValue).toList()).isEqualTo(expectedIds);
+    }
+
     @Test
     @DisplayName("t3_1. 북마크 삭제 성공 (soft delete)")
     void t3_1() throws Exception {
@@ -0,0 +1,135 @@
+package com.back.pinco.domain.likes.service;
+
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.user.repository.UserStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikesCountBufferTest {
+
+    private final PinRepository pinRepository = mock(PinRepository.class);
+    private final UserStatsRepository userStatsRepository = mock(UserStatsRepository.class);
+    private final LikesCountBuffer buffer = new LikesCountBuffer(
+            pinRepository,
+            userStatsRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            true
+    );
+
+    @Test
+    @DisplayName("모인 증감을 핀별로 합쳐 한 번에 반영")
+    void flush() {
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(2L, -1);
+
+        buffer.flush();
+
+        assertThat(appliedDeltas(1)).containsOnly(entry(1L, 2L), entry(2L, -1L));
+        verify(userStatsRepository).applyLikesReceivedDeltas(any(), any());
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.pending(2L)).isZero();
+
+        // 반영할 증감이 없으면 UPDATE 하지 않음
+        buffer.flush();
+        verify(pinRepository, times(1)).applyLikeCountDeltas(any(), any());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감을 되돌려 다음 주기에 다시 반영")
+    void requeueOnFailure() {
+        buffer.add(1L, 1);
+        buffer.add(2L, 1);
+        when(pinRepository.applyLikeCountDeltas(any(), any()))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(2);
+
+        buffer.flush();
+        assertThat(buffer.pending(1L)).isEqualTo(1);
+        assertThat(buffer.pending(2L)).isEqualTo(1);
+
+        buffer.add(1L, 1);    // 실패 후 더해진 증감도 함께 반영
+        buffer.flush();
+
+        assertThat(appliedDeltas(2)).containsOnly(entry(1L, 2L), entry(2L, 1L));
+        assertThat(buffer.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("재계산 전에 남은 증감을 먼저 반영하고 다시 반영하지 않음")
+    void reconcile() {
+        buffer.add(1L, 1);
+        buffer.add(2L, -1);
+
+        buffer.reconcile();
+
+        // 받은 좋아요 수(user_stats)도 같은 증감으로 반영되므로 버리지 않음
+        assertThat(appliedDeltas(1)).containsOnly(entry(1L, 1L), entry(2L, -1L));
+        verify(userStatsRepository).applyLikesReceivedDeltas(any(), any());
+        verify(pinRepository).refreshAllLikeCounts();
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.pending(2L)).isZero();
+
+        buffer.flush();
+        verify(pinRepository, times(1)).applyLikeCountDeltas(any(), any());
+
+        // 재계산 이후의 증감은 반영
+        buffer.add(1L, 1);
+        buffer.flush();
+        assertThat(appliedDeltas(2)).containsOnly(entry(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("기동 시 재계산은 설정으로 끌 수 있음")
+    void reconcileOnStartupDisabled() {
+        LikesCountBuffer disabled = new LikesCountBuffer(
+                pinRepository,
+                userStatsRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                false
+        );
+
+        disabled.reconcileOnStartup();
+
+        verify(pinRepository, never()).refreshAllLikeCounts();
+    }
+
+    @Test
+    @DisplayName("flushAndRun 은 남은 증감을 먼저 반영한 뒤 작업 실행")
+    void flushAndRun() {
+        buffer.add(1L, 1);
+
+        buffer.flushAndRun(() -> {
+            assertThat(appliedDeltas(1)).containsOnly(entry(1L, 1L));
+            assertThat(buffer.pending(1L)).isZero();
+        });
+    }
+
+    // 마지막 applyLikeCountDeltas 호출의 핀 ID → 증감 (호출 횟수 확인 포함)
+    private Map<Long, Long> appliedDeltas(int expectedCalls) {
+        ArgumentCaptor<Long[]> pinIds = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<Long[]> deltas = ArgumentCaptor.forClass(Long[].class);
+        verify(pinRepository, times(expectedCalls)).applyLikeCountDeltas(pinIds.capture(), deltas.capture());
+
+        Map<Long, Long> applied = new HashMap<>();
+        for (int i = 0; i < pinIds.getValue().length; i++) {
+            applied.put(pinIds.getValue()[i], deltas.getValue()[i]);
+        }
+        return applied;
+    }
+}
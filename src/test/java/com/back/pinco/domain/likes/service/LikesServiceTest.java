@@ -0,0 +1,79 @@
+package com.back.pinco.domain.likes.service;
+
+import com.back.pinco.domain.likes.repository.LikesRepository;
+import com.back.pinco.domain.pin.dto.CreatePinRequest;
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.pin.service.PinService;
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 변경은 요청마다 커밋되는 동시 실행을 확인해야 하므로 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest
+class LikesServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private LikesService likesService;
+    @Autowired
+    private LikesCountBuffer likesCountBuffer;
+    @Autowired
+    private LikesRepository likesRepository;
+    @Autowired
+    private PinRepository pinRepository;
+    @Autowired
+    private PinService pinService;
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("같은 좋아요 요청이 동시에 들어와도 좋아요 수는 한 번만 늘어남")
+    void concurrentLike() throws Exception {
+        // given: 좋아요 후 취소해 좋아요 행이 is_liked = false 로 남은 상태
+        User user = userService.createUser("likes+" + UUID.randomUUID().toString().substring(0, 8) + "@example.com", "12345678", "연속탭");
+        Pin pin = pinService.write(user, new CreatePinRequest(37.5665, 126.9780, "좋아요 동시 요청 핀"));
+        likesService.changeLikes(pin.getId(), user.getId(), true);
+        likesService.changeLikes(pin.getId(), user.getId(), false);
+
+        // when
+        CountDownLatch start = new CountDownLatch(1);
+        List<Integer> likeCounts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return likesService.changeLikes(pin.getId(), user.getId(), true).likeCount();
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> future : futures) {
+                likeCounts.add(future.get());
+            }
+        }
+        likesCountBuffer.flush();
+
+        // then
+        assertThat(likesRepository.countByPin_IdAndLikedTrue(pin.getId())).isEqualTo(1L);
+        assertThat(pinRepository.findLikeCountById(pin.getId())).isEqualTo(1L);
+        assertThat(likeCounts).allMatch(likeCount -> likeCount <= 1);
+    }
+}
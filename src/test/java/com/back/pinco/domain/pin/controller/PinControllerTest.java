@@ -3,32 +3,56 @@ package com.back.pinco.domain.pin.controller;
 import com.back.pinco.domain.likes.entity.Likes;
 import com.back.pinco.domain.likes.repository.LikesRepository;
 import com.back.pinco.domain.likes.service.LikesService;
+import com.back.pinco.domain.pin.dto.CreatePinRequest;
+import com.back.pinco.domain.pin.dto.UpdatePinContentRequest;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.event.PinActivityEvent;
 import com.back.pinco.domain.pin.repository.PinRepository;
 import com.back.pinco.domain.pin.service.PinService;
+import com.back.pinco.domain.pin.service.PinStreamHub;
+import com.back.pinco.domain.pin.service.PinTileCache;
+import com.back.pinco.domain.tag.service.PinTagService;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
 import com.back.pinco.domain.user.service.UserService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.page.KeysetCursor;
 import com.back.pinco.global.security.JwtTokenProvider;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -61,6 +85,21 @@ public class PinControllerTest {
     @Autowired
     private LikesService likesService;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PinStreamHub pinStreamHub;
+
+    @Autowired
+    private PinTagService pinTagService;
+
+    @Autowired
+    private PinTileCache pinTileCache;
+
 
     long targetId = 1L;
     long failedTargetId = Integer.MAX_VALUE;
@@ -243,6 +282,42 @@ public class PinControllerTest {
                 .andExpect(status().is(403));
     }
 
+    @Test
+    @DisplayName("핀 일괄 생성 - 태그 포함")
+    void t1_6() throws Exception {
+        String jsonContent = """
+                {
+                    "pins": [
+                        { "content": "가져온 핀1", "latitude": 37.5665, "longitude": 126.9780, "tags": ["가져오기", "카페"] },
+                        { "content": "가져온 핀2", "latitude": 37.5651, "longitude": 126.9895, "tags": ["가져오기"] },
+                        { "content": "가져온 핀3", "latitude": 37.5796, "longitude": 126.9770 }
+                    ]
+                }
+                """;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/pins/batch")
+                                .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(jsonContent)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("createPins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.createdCount").value(3))
+                .andExpect(jsonPath("$.data.pinIds.length()").value(3));
+
+        Long firstPinId = ((Number) JsonPath.read(
+                resultActions.andReturn().getResponse().getContentAsString(), "$.data.pinIds[0]")).longValue();
+        Pin firstPin = pinRepository.findById(firstPinId).get();
+        assertThat(firstPin.getUser().getId()).isEqualTo(testUser.getId());
+        assertThat(firstPin.getPinTags()).hasSize(2);
+    }
+
     @Test
     @DisplayName("id로 핀 조회 - 성공")
     void t2_1_1() throws Exception {
@@ -314,6 +389,25 @@ public class PinControllerTest {
                 .andExpect(jsonPath("$.msg").exists());
     }
 
+    @Test
+    @DisplayName("핀 조회 - 처리 시간, SQL 수 지표 기록")
+    void t2_3() throws Exception {
+        mvc.perform(get("/api/pins/%s".formatted(failedTargetId)))
+                .andExpect(jsonPath("$.errorCode").value("1002"));
+
+        Timer timer = meterRegistry.find("pinco.api.latency")
+                .tags("endpoint", "PinController.getPinById", "code", "1002")
+                .timer();
+        DistributionSummary statements = meterRegistry.find("pinco.api.sql.statements")
+                .tag("endpoint", "PinController.getPinById")
+                .summary();
+
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+        assertThat(statements).isNotNull();
+        assertThat(statements.totalAmount()).isPositive();
+    }
+
     @Test
     @DisplayName("특정 지점에서 범위 내 좌표 확인")
     void t3_1_1() throws Exception {
@@ -381,6 +475,57 @@ public class PinControllerTest {
 
     }
 
+    @Test
+    @DisplayName("특정 지점에서 범위 내 좌표 확인- 비로그인, 타일 캐시 후보도 DB 와 같은 거리 기준으로 판정")
+    void t3_1_2_1() throws Exception {
+        // 위도 60도 동서 방향은 회전타원체 거리가 구면 거리보다 약 0.36% 길다
+        // → 구면 거리로 반경의 99.8% 인 핀은 DB(ST_DWithin) 기준 반경 밖
+        double latitude = 60.0, longitude = 50.0, radius = 1000;
+        double lngPerMeter = Math.toDegrees(1 / (6_371_008.8 * Math.cos(Math.toRadians(latitude))));
+        Pin inside = pinService.write(testUser, new CreatePinRequest(latitude, longitude + radius * 0.5 * lngPerMeter, "반경 안 핀"));
+        pinService.write(testUser, new CreatePinRequest(latitude, longitude + radius * 0.998 * lngPerMeter, "구면 거리로만 반경 안 핀"));
+        assertThat(pinRepository.findPublicPinsWithinRadius(latitude, longitude, radius))
+                .extracting(Pin::getId).containsExactly(inside.getId());
+
+        try {
+            mvc.perform(
+                            get("/api/pins")
+                                    .param("radius", String.valueOf(radius))
+                                    .param("latitude", String.valueOf(latitude))
+                                    .param("longitude", String.valueOf(longitude))
+                    )
+                    .andDo(print())
+                    .andExpect(handler().methodName("getRadiusPins"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(1))
+                    .andExpect(jsonPath("$.data[0].id").value(inside.getId()));
+        } finally {
+            pinTileCache.evictAll();    // 롤백될 핀이 올라간 타일을 다른 테스트에 남기지 않음
+        }
+    }
+
+    @Test
+    @DisplayName("범위 내 핀 내용 검색 - 비로그인")
+    void t3_1_3() throws Exception {
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/search")
+                                .param("q", "카페")
+                                .param("latitude", "37.5665")
+                                .param("longitude", "126.9780")
+                                .param("radius", "1000")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("searchPins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].content", hasItem("서울 시청 근처 카페 ☕")))
+                .andExpect(jsonPath("$.data[*].content", everyItem(containsString("카페"))));
+    }
+
     @Test
     @DisplayName("특정 지점에서 범위 내 핀 확인 - 핀 없음")
     void t3_2() throws Exception {
@@ -407,6 +552,334 @@ public class PinControllerTest {
     }
 
 
+    @Test
+    @DisplayName("화면 영역 내 핀 확인 - 비로그인")
+    void t3_3_1() throws Exception {
+
+        Pin pin = pinRepository.findById(targetId).get();
+        double lat = pin.getPoint().getY();
+        double lon = pin.getPoint().getX();
+        List<Pin> pins = pinRepository.findPublicPinsInBoundingBox(lat - 0.01, lon - 0.01, lat + 0.01, lon + 0.01);
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/bbox")
+                                .param("minLat", String.valueOf(lat - 0.01))
+                                .param("minLng", String.valueOf(lon - 0.01))
+                                .param("maxLat", String.valueOf(lat + 0.01))
+                                .param("maxLng", String.valueOf(lon + 0.01))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getBoundingBoxPins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(pins.size()));
+
+        for (int i = 0; i < pins.size(); i++) {
+            resultActions
+                    .andExpect(jsonPath("$.data[%d].id".formatted(i)).value(pins.get(i).getId()))
+                    .andExpect(jsonPath("$.data[%d].latitude".formatted(i)).value(pins.get(i).getPoint().getY()))
+                    .andExpect(jsonPath("$.data[%d].longitude".formatted(i)).value(pins.get(i).getPoint().getX()));
+        }
+    }
+
+    @Test
+    @DisplayName("화면 영역 내 핀 확인 - 실패 (잘못된 영역)")
+    void t3_3_2() throws Exception {
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/bbox")
+                                .param("minLat", "38")
+                                .param("minLng", "126")
+                                .param("maxLat", "37")
+                                .param("maxLng", "127")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getBoundingBoxPins"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("1011"))
+                .andExpect(jsonPath("$.msg").exists());
+    }
+
+    @Test
+    @DisplayName("화면 영역 내 핀 확인 - 비로그인 - 전 세계 / 경도 180도 이상 영역 (경위도 평면 사각형 기준)")
+    void t3_3_7() throws Exception {
+        pinService.write(testUser, new CreatePinRequest(10.0, 179.5, "날짜변경선 동쪽"));
+        pinService.write(testUser, new CreatePinRequest(-10.0, -179.5, "날짜변경선 서쪽"));
+        pinService.write(testUser, new CreatePinRequest(10.0, 100.0, "경도 100도"));
+        entityManager.flush();
+
+        mvc
+                .perform(
+                        get("/api/pins/bbox")
+                                .param("minLat", "-90")
+                                .param("minLng", "-180")
+                                .param("maxLat", "90")
+                                .param("maxLng", "180")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].content", hasItem("날짜변경선 동쪽")))
+                .andExpect(jsonPath("$.data[*].content", hasItem("날짜변경선 서쪽")))
+                .andExpect(jsonPath("$.data[*].content", hasItem("경도 100도")))
+                .andExpect(jsonPath("$.data[*].content", hasItem("서울 시청 근처 카페 ☕")));
+
+        // 경도 340도 폭 : 날짜변경선을 건너는 짧은 쪽이 아니라 -170 ~ 170 사이를 조회
+        mvc
+                .perform(
+                        get("/api/pins/bbox")
+                                .param("minLat", "-60")
+                                .param("minLng", "-170")
+                                .param("maxLat", "60")
+                                .param("maxLng", "170")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].content", hasItem("경도 100도")))
+                .andExpect(jsonPath("$.data[*].content", hasItem("서울 시청 근처 카페 ☕")))
+                .andExpect(jsonPath("$.data[*].content", not(hasItem("날짜변경선 동쪽"))))
+                .andExpect(jsonPath("$.data[*].content", not(hasItem("날짜변경선 서쪽"))));
+    }
+
+    @Test
+    @DisplayName("화면 영역 변경 피드 - 첫 동기화 후 토큰으로 이어서 조회")
+    void t3_3_4() throws Exception {
+        // 첫 동기화에 포함되도록 CHANGES_SETTLE 보다 오래전에 만든 것으로 맞춘 공개 핀 3개
+        Pin updated = pinService.write(testUser, new CreatePinRequest(37.55, 126.95, "변경 피드 - 수정"));
+        Pin madePrivate = pinService.write(testUser, new CreatePinRequest(37.55, 126.96, "변경 피드 - 비공개"));
+        Pin deleted = pinService.write(testUser, new CreatePinRequest(37.55, 126.97, "변경 피드 - 삭제"));
+        List<Long> ids = List.of(updated.getId(), madePrivate.getId(), deleted.getId());
+        setTimestamps(ids, "create_at = :t, modified_at = :t", LocalDateTime.now().minusHours(1));
+
+        // 다른 사용자의 처음부터 비공개인 핀 : 토큰 이후 수정돼도 삭제 표시로 내려가지 않아야 함 (위치 노출 방지)
+        User otherUser = userRepository.findById(2L).get();
+        Pin alwaysPrivate = pinService.write(otherUser, new CreatePinRequest(37.55, 126.98, "변경 피드 - 원래 비공개"));
+        pinService.changePublic(otherUser, alwaysPrivate.getId());
+        setTimestamps(List.of(alwaysPrivate.getId()), "create_at = :t, modified_at = :t, hidden_at = :t", LocalDateTime.now().minusHours(1));
+
+        String firstResponse = mvc
+                .perform(
+                        get("/api/pins/changes")
+                                .param("minLat", "37.4")
+                                .param("minLng", "126.8")
+                                .param("maxLat", "37.7")
+                                .param("maxLng", "127.2")
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getPinChanges"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.removed.length()").value(0))
+                .andExpect(jsonPath("$.data.changed[*].id", not(hasItem(alwaysPrivate.getId().intValue()))))
+                .andExpect(jsonPath("$.data.changed[*].id", hasItem(updated.getId().intValue())))
+                .andExpect(jsonPath("$.data.changed[*].id", hasItem(madePrivate.getId().intValue())))
+                .andExpect(jsonPath("$.data.changed[*].id", hasItem(deleted.getId().intValue())))
+                .andExpect(jsonPath("$.data.nextToken").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        String nextToken = JsonPath.read(firstResponse, "$.data.nextToken");
+
+        // 토큰 이후 수정 / 비공개 전환 / 삭제
+        // 수정 시각은 토큰 시각 직후로 맞춰 CHANGES_SETTLE 을 기다리지 않고 다음 요청 범위에 들어오게 함
+        pinService.update(testUser, updated.getId(), new UpdatePinContentRequest(37.55, 126.95, "변경 피드 - 수정됨"));
+        pinService.changePublic(testUser, madePrivate.getId());
+        pinService.deleteById(deleted.getId(), testUser);
+        pinService.update(otherUser, alwaysPrivate.getId(), new UpdatePinContentRequest(37.55, 126.98, "변경 피드 - 원래 비공개 수정"));
+        setTimestamps(List.of(updated.getId(), madePrivate.getId(), deleted.getId(), alwaysPrivate.getId()),
+                "modified_at = :t", KeysetCursor.decode(nextToken).time().plusNanos(1_000));
+
+        mvc
+                .perform(
+                        get("/api/pins/changes")
+                                .param("since", nextToken)
+                                .param("minLat", "37.4")
+                                .param("minLng", "126.8")
+                                .param("maxLat", "37.7")
+                                .param("maxLng", "127.2")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changed[?(@.id == %d)].content".formatted(updated.getId())).value(hasItem("변경 피드 - 수정됨")))
+                .andExpect(jsonPath("$.data.changed[*].id", not(hasItem(madePrivate.getId().intValue()))))
+                .andExpect(jsonPath("$.data.changed[*].id", not(hasItem(deleted.getId().intValue()))))
+                .andExpect(jsonPath("$.data.changed[*].id", not(hasItem(alwaysPrivate.getId().intValue()))))
+                .andExpect(jsonPath("$.data.removed", containsInAnyOrder(madePrivate.getId().intValue(), deleted.getId().intValue())))
+                .andExpect(jsonPath("$.data.nextToken").isNotEmpty());
+
+        mvc
+                .perform(
+                        get("/api/pins/changes")
+                                .param("since", "not-a-token")
+                                .param("minLat", "37.4")
+                                .param("minLng", "126.8")
+                                .param("maxLat", "37.7")
+                                .param("maxLng", "127.2")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("410"));
+    }
+
+    @Test
+    @DisplayName("화면 영역 핀 활동 구독 (SSE) - 비로그인")
+    void t3_3_5() throws Exception {
+
+        MvcResult result = mvc
+                .perform(
+                        get("/api/pins/stream")
+                                .param("minLat", "37.5")
+                                .param("minLng", "126.9")
+                                .param("maxLat", "37.6")
+                                .param("maxLng", "127.0")
+                )
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("streamPins"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString()).contains("event:ready");
+
+        closeStream(result);
+    }
+
+    @Test
+    @DisplayName("화면 영역 핀 활동 구독 (SSE) - 영역 안 핀 이벤트 수신")
+    void t3_3_6() throws Exception {
+        int subscribers = pinStreamHub.subscriberCount();
+        MvcResult result = mvc
+                .perform(
+                        get("/api/pins/stream")
+                                .param("minLat", "37.5")
+                                .param("minLng", "126.9")
+                                .param("maxLat", "37.6")
+                                .param("maxLng", "127.0")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(pinStreamHub.subscriberCount()).isEqualTo(subscribers + 1);
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 이후 호출되는 리스너를 직접 호출
+        Pin pin = pinRepository.findById(targetId).get();
+        pinStreamHub.onPinActivity(PinActivityEvent.likeCountChanged(pin, 42));
+
+        try {
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    assertThat(result.getResponse().getContentAsString())
+                            .contains("event:like-count-changed")
+                            .contains("id:" + targetId)
+                            .contains("\"likeCount\":42"));
+        } finally {
+            closeStream(result);
+        }
+        assertThat(pinStreamHub.subscriberCount()).isEqualTo(subscribers);
+    }
+
+    // 클라이언트 연결 종료 → 구독 해제
+    private void closeStream(MvcResult result) {
+        result.getRequest().getAsyncContext().complete();
+    }
+
+    // 변경 피드 테스트용으로 핀의 생성/수정 시각을 직접 맞춤 (감사 필드는 flush 시 현재 시각으로 기록되므로 그 뒤에 덮어씀)
+    private void setTimestamps(List<Long> pinIds, String assignments, LocalDateTime time) {
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE pins SET " + assignments + " WHERE pin_id IN (:ids)")
+                .setParameter("t", time)
+                .setParameter("ids", pinIds)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("화면 영역 인기 핀 조회 - 비로그인")
+    void t3_3_3() throws Exception {
+
+        // 서울시청 주변 (초기 데이터의 좋아요/북마크가 점수에 반영되어 있음)
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/trending")
+                                .param("minLat", "37.4")
+                                .param("minLng", "126.8")
+                                .param("maxLat", "37.7")
+                                .param("maxLng", "127.2")
+                                .param("limit", "5")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getTrendingPins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(5))
+                .andExpect(jsonPath("$.data[*].content", hasItem("서울 시청 근처 카페 ☕")));
+    }
+
+    @Test
+    @DisplayName("화면 영역 클러스터 조회 - 비로그인")
+    void t3_4_1() throws Exception {
+
+        // 서울시청 주변
+        List<Pin> pins = pinRepository.findPublicPinsInBoundingBox(37.4, 126.8, 37.7, 127.2);
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/clusters")
+                                .param("minLat", "37.4")
+                                .param("minLng", "126.8")
+                                .param("maxLat", "37.7")
+                                .param("maxLng", "127.2")
+                                .param("zoom", "3")
+                )
+                .andDo(print());
+
+        // 줌 3 에서는 화면 전체가 한 셀에 들어간다
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getClusters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].count").value(pins.size()))
+                .andExpect(jsonPath("$.data[0].samplePinIds.length()").value(Math.min(5, pins.size())));
+    }
+
+    @Test
+    @DisplayName("화면 영역 클러스터 조회 - 비로그인 - 줌 0 전 세계, 셀마다 상위 태그 3개")
+    void t3_4_2() throws Exception {
+        Pin tagged = pinService.write(testUser, new CreatePinRequest(37.5665, 126.978, "클러스터 태그"));
+        pinTagService.linkTagsToPin(tagged.getId(), List.of("클러스터1", "클러스터2", "클러스터3", "클러스터4"));
+        pinService.write(testUser, new CreatePinRequest(-10.0, -179.5, "날짜변경선 서쪽"));
+        entityManager.flush();
+        int publicPins = pinRepository.findPublicPinsInBoundingBox(-90.0, -180.0, 90.0, 180.0).size();
+
+        String body = mvc
+                .perform(
+                        get("/api/pins/clusters")
+                                .param("minLat", "-90")
+                                .param("minLng", "-180")
+                                .param("maxLat", "90")
+                                .param("maxLng", "180")
+                                .param("zoom", "0")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // 전 세계 영역의 공개 핀이 빠짐없이 클러스터에 들어감
+        List<Integer> counts = JsonPath.read(body, "$.data[*].count");
+        assertThat(counts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(publicPins);
+
+        // 태그가 4개 이상인 셀(서울)도 상위 3개만 내려옴
+        List<List<String>> topTags = JsonPath.read(body, "$.data[*].topTags");
+        assertThat(topTags).allSatisfy(tags -> assertThat(tags).hasSizeLessThanOrEqualTo(3));
+        assertThat(topTags).anySatisfy(tags -> assertThat(tags).hasSize(3));
+    }
+
     @Test
     @DisplayName("모든 핀 리턴")
     void t4_1_1() throws Exception {
@@ -460,6 +933,57 @@ public class PinControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("모든 핀 리턴 - 커서 페이지 - 비로그인")
+    void t4_1_3() throws Exception {
+        List<Pin> pins = pinRepository.findPublicPinsAfter(0L, Limit.of(3));
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/all")
+                                .param("after", "0")
+                                .param("limit", "2")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getAllByCursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(Math.min(pins.size(), 2)))
+                .andExpect(jsonPath("$.data.hasNext").value(pins.size() > 2));
+
+        for (int i = 0; i < Math.min(pins.size(), 2); i++) {
+            resultActions
+                    .andExpect(jsonPath("$.data.content[%d].id".formatted(i)).value(pins.get(i).getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 핀 리턴 - 핀 수와 관계없이 쿼리 수 일정 (N+1 방지)")
+    void t4_1_4() throws Exception {
+        List<Pin> pins = pinRepository.findAllPublicPins();
+        assertThat(pins.size()).isGreaterThan(1);
+
+        // 테스트 트랜잭션에 올라온 엔티티를 비워야 응답 조립 시 발생하는 쿼리를 셀 수 있음
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mvc.perform(get("/api/pins/all"))
+                .andExpect(handler().methodName("getAll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(pins.size()));
+
+        // 핀 목록 1회 + 태그 일괄 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        statistics.setStatisticsEnabled(false);
+    }
+
     @Test
     @DisplayName("특정 사용자 핀 리턴 -성공 ")
     void t4_2_1() throws Exception {
@@ -533,6 +1057,31 @@ public class PinControllerTest {
 
     }
 
+    @Test
+    @DisplayName("특정 사용자 핀 달력 조회 - 비로그인 - 성공")
+    void t4_4() throws Exception {
+        int year = LocalDate.now().getYear();
+        long expected = pinRepository.findPublicByUser(targetId).stream()
+                .filter(p -> p.getCreatedAt().getYear() == year)
+                .count();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/user/%s/calendar".formatted(targetId))
+                                .param("year", String.valueOf(year))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getUserPinCalendar"))
+                .andExpect(status().isOk());
+
+        List<Integer> counts = JsonPath.read(
+                resultActions.andReturn().getResponse().getContentAsString(), "$.data[*].count");
+        assertThat(counts.stream().mapToLong(Integer::longValue).sum()).isEqualTo(expected);
+    }
+
     @Test
     @DisplayName("핀 내용 수정")
     void t5_1_1() throws Exception {
@@ -1050,6 +1599,39 @@ public class PinControllerTest {
                 .andExpect(jsonPath("$.data[*].id", containsInAnyOrder(userIds)));
     }
 
+    @Test
+    @DisplayName("좋아요한 사용자 목록 조회 성공 - 커서 페이지")
+    void likesGetUsersWhoLikedPinByCursor() throws Exception {
+        // given
+        Long pinId = 1L;
+        long likedCount = likesRepository.countByPin_IdAndLikedTrue(pinId);
+
+        // when & then
+        String firstPage = mvc.perform(
+                        get("/api/pins/{pinId}/likesusers", pinId)
+                                .param("limit", "1")
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getUsersWhoLikedPinByCursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(Math.min(1, likedCount)))
+                .andExpect(jsonPath("$.data.hasNext").value(likedCount > 1))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = JsonPath.read(firstPage, "$.data.nextCursor");
+        if (cursor == null) return;
+
+        mvc.perform(
+                        get("/api/pins/{pinId}/likesusers", pinId)
+                                .param("limit", "100")
+                                .param("cursor", cursor)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(likedCount - 1))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
     @Test
     @DisplayName("좋아요한 사용자 목록 조회 성공 - 취소건")
     void likesGetUsersWhoLikedPinF() throws Exception {
@@ -0,0 +1,136 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.projection.PinPointRow;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.global.geometry.GeometryUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PinTileCacheTest {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final PinRepository pinRepository = mock(PinRepository.class);
+    private final PinTileCache cache = new PinTileCache(pinRepository, new SimpleMeterRegistry(), 60, 1000);
+    private final List<PinPointRow> pins = new ArrayList<>();    // DB 에 있는 공개 핀
+
+    @BeforeEach
+    void setUp() {
+        // 요청한 영역 안의 핀만 돌려주는 가짜 DB
+        when(pinRepository.findPublicPinPointsInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    double minLat = invocation.getArgument(0), minLng = invocation.getArgument(1);
+                    double maxLat = invocation.getArgument(2), maxLng = invocation.getArgument(3);
+                    return pins.stream()
+                            .filter(p -> p.getLatitude() >= minLat && p.getLatitude() <= maxLat
+                                    && p.getLongitude() >= minLng && p.getLongitude() <= maxLng)
+                            .toList();
+                });
+    }
+
+    @Test
+    @DisplayName("같은 영역을 다시 조회하면 캐시된 타일 사용")
+    void cacheHit() {
+        addPin(1L, 37.5665, 126.9780);
+
+        assertThat(cache.findPublicPinIdsWithinRadius(37.5665, 126.9780, 500)).contains(List.of(1L));
+        clearInvocations(pinRepository);
+
+        assertThat(cache.findPublicPinIdsWithinRadius(37.5665, 126.9780, 500)).contains(List.of(1L));
+        assertThat(cache.findPublicPinIdsInBoundingBox(37.566, 126.977, 37.567, 126.979)).contains(List.of(1L));
+        verify(pinRepository, never()).findPublicPinPointsInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("핀 변경 시 해당 타일만 다시 적재")
+    void evictOnWrite() {
+        addPin(1L, 37.5665, 126.9780);
+        cache.findPublicPinIdsInBoundingBox(37.566, 126.977, 37.567, 126.979);
+
+        addPin(2L, 37.5666, 126.9781);
+        cache.evict(GeometryUtil.createPoint(126.9781, 37.5666));
+        clearInvocations(pinRepository);
+
+        assertThat(cache.findPublicPinIdsInBoundingBox(37.566, 126.977, 37.567, 126.979)).contains(List.of(1L, 2L));
+        verify(pinRepository, times(1)).findPublicPinPointsInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("덮는 타일이 너무 많거나 타일 범위를 벗어나면 DB 조회로 넘김")
+    void fallback() {
+        assertThat(cache.findPublicPinIdsWithinRadius(37.5665, 126.9780, 50_000)).isEqualTo(Optional.empty());
+        assertThat(cache.findPublicPinIdsWithinRadius(89.99, 0, 1000)).isEqualTo(Optional.empty());      // 극 근처
+        assertThat(cache.findPublicPinIdsWithinRadius(0, 179.999, 1000)).isEqualTo(Optional.empty());    // 날짜변경선
+        verify(pinRepository, never()).findPublicPinPointsInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("반경 경계 바로 안쪽의 핀이 다른 타일에 있어도 포함")
+    void radiusEdgeAcrossTile() {
+        // 타일 경계 바로 북쪽에 핀을 두고, 중심을 반경의 99.99% 만큼 남쪽에 둠
+        double radius = 1000;
+        double boundary = tileLatitude(tileY(37.5665));
+        double pinLat = boundary + 1e-7;
+        double centerLat = pinLat - Math.toDegrees(radius / EARTH_RADIUS_METERS) * 0.9999;
+        addPin(1L, pinLat, 126.9780);
+
+        assertThat(cache.findPublicPinIdsWithinRadius(centerLat, 126.9780, radius)).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("구면 거리로는 반경을 조금 넘어도 회전타원체 거리 오차 범위 안이면 후보에 포함")
+    void radiusSpheroidTolerance() {
+        // 위도 37.5 부근 남북 방향은 회전타원체 거리가 구면 거리보다 약 0.2% 짧아 DB(ST_DWithin) 는 반경 안으로 본다
+        double radius = 1000;
+        double degreesPerMeter = Math.toDegrees(1 / EARTH_RADIUS_METERS);
+        addPin(1L, 37.5 + radius * 1.002 * degreesPerMeter, 126.9780);
+        addPin(2L, 37.5 + radius * (PinTileCache.RADIUS_PADDING + 0.01) * degreesPerMeter, 126.9780);
+
+        assertThat(cache.findPublicPinIdsWithinRadius(37.5, 126.9780, radius)).contains(List.of(1L));
+    }
+
+    private void addPin(Long id, double latitude, double longitude) {
+        pins.add(new PinPointRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+        });
+    }
+
+    // slippy map 타일 y, 타일 위쪽 경계 위도
+    private static int tileY(double latitude) {
+        double latRad = Math.toRadians(latitude);
+        return (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * (1 << PinTileCache.TILE_ZOOM));
+    }
+
+    private static double tileLatitude(int y) {
+        double n = Math.PI * (1 - 2.0 * y / (1 << PinTileCache.TILE_ZOOM));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
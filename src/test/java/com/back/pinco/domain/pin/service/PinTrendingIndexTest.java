@@ -0,0 +1,49 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.global.geometry.GeometryUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PinTrendingIndexTest {
+
+    private final PinTrendingIndex index = new PinTrendingIndex(mock(PinRepository.class), 6, 3);
+
+    @Test
+    @DisplayName("지역 상위 K개 밖의 핀도 화면이 지역 일부만 덮으면 조회됨")
+    void partialRegion() {
+        // 한 지역(127.00~127.10, 37.50~37.60) 안 : 화면 밖 인기 핀 3개 + 화면 안 덜 인기 있는 핀 2개
+        record(1L, 37.59, 127.09, 10);
+        record(2L, 37.58, 127.08, 9);
+        record(3L, 37.57, 127.07, 8);
+        record(4L, 37.511, 127.011, 2);
+        record(5L, 37.512, 127.012, 1);
+
+        assertThat(index.findTopPinIds(37.51, 127.01, 37.52, 127.02)).contains(List.of(4L, 5L));
+    }
+
+    @Test
+    @DisplayName("화면이 지역을 통째로 덮으면 지역 상위 K개로 조회")
+    void coveredRegion() {
+        record(1L, 37.59, 127.09, 10);
+        record(2L, 37.58, 127.08, 9);
+        record(3L, 37.57, 127.07, 8);
+        record(4L, 37.511, 127.011, 2);
+
+        assertThat(index.findTopPinIds(37.4, 126.9, 37.7, 127.2)).contains(List.of(1L, 2L, 3L));
+    }
+
+    // 트랜잭션 밖이므로 바로 반영
+    private void record(Long id, double latitude, double longitude, double weight) {
+        Pin pin = new Pin(GeometryUtil.createPoint(longitude, latitude), null, "핀" + id);
+        ReflectionTestUtils.setField(pin, "id", id);
+        index.record(pin, weight);
+    }
+}
@@ -2,12 +2,19 @@ package com.back.pinco.domain.tag.controller;
 
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.tag.entity.PinTag;
 import com.back.pinco.domain.tag.entity.Tag;
 import com.back.pinco.domain.tag.repository.TagRepository;
+import com.back.pinco.domain.tag.service.PinTagService;
+import com.back.pinco.domain.tag.service.TagDictionary;
+import com.back.pinco.domain.tag.service.TagSuggestIndex;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,9 +27,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -42,6 +54,12 @@ class TagControllerTest {
     private PinRepository pinRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private PinTagService pinTagService;
+    @Autowired
+    private TagDictionary tagDictionary;
+    @Autowired
+    private TagSuggestIndex tagSuggestIndex;
 
     @PersistenceContext
     private EntityManager em;
@@ -55,6 +73,19 @@ class TagControllerTest {
         em.createNativeQuery("TRUNCATE TABLE pins RESTART IDENTITY CASCADE").executeUpdate();
         em.createNativeQuery("TRUNCATE TABLE tags RESTART IDENTITY CASCADE").executeUpdate();
         em.createNativeQuery("TRUNCATE TABLE users RESTART IDENTITY CASCADE").executeUpdate();
+        tagDictionary.clear();    // 비운 tags 테이블과 사전 캐시를 맞춤
+    }
+
+    // 롤백된 테스트 데이터의 태그 ID 가 다른 테스트에 남지 않도록 함
+    @AfterEach
+    void clearTagDictionary() {
+        tagDictionary.clear();
+    }
+
+    // t21 등에서 테스트 데이터로 만든 자동완성 색인을 롤백된 DB 기준으로 다시 만듦 (롤백 이후에 실행)
+    @AfterTransaction
+    void rebuildSuggestIndex() {
+        tagSuggestIndex.rebuild();
     }
     // t1: 전체 태그 조회 - 성공
     @Test
@@ -258,6 +289,43 @@ class TagControllerTest {
                 .andExpect(jsonPath("$.data.pins[0].pin.id").value(pin1.getId()));
     }
 
+    // t11_2: 여러 태그 기반 핀 합집합 조회 - 성공
+    @Test
+    @DisplayName("t11_2 - 여러 태그 기반 핀 합집합(ANY) 조회 성공")
+    void t11_2() throws Exception {
+        User user = userRepository.save(new User("tempUser", "pw", "email@test.com"));
+
+        Point point1 = geometryFactory.createPoint(new Coordinate(127.0276, 37.4979));
+        Point point2 = geometryFactory.createPoint(new Coordinate(127.0256, 37.5009));
+        Pin pin1 = pinRepository.save(new Pin(point1, user, "테스트용 핀1"));
+        Pin pin2 = pinRepository.save(new Pin(point2, user, "테스트용 핀2"));
+
+        tagRepository.save(new Tag("카페"));
+        tagRepository.save(new Tag("데이트"));
+
+        mvc.perform(post("/api/pins/" + pin1.getId() + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keyword\":\"카페\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/pins/" + pin2.getId() + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keyword\":\"데이트\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/tags/filter")
+                        .param("keywords", "카페")
+                        .param("keywords", "데이트")
+                        .param("mode", "ANY")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errorCode").value("200"))
+                .andExpect(jsonPath("$.data.pins", hasSize(1)))
+                .andExpect(jsonPath("$.data.pins[0].pin.id").value(pin1.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
     // t12: 여러 태그 기반 핀 교집합 조회 - 존재하지 않는 태그 요청 시
     @Test
     @DisplayName("t12 - 여러 태그 기반 핀 교집합 조회 - 존재하지 않는 태그 요청 시")
@@ -414,4 +482,73 @@ class TagControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("3001"))
                 .andExpect(jsonPath("$.msg").value("존재하지 않는 태그입니다."));
     }
+
+    // t20: 태그 일괄 upsert - 기존 키워드는 기존 ID, 새 키워드는 한 번만 생성
+    @Test
+    @DisplayName("t20 - 태그 일괄 upsert (기존 키워드 재사용, 새 키워드 생성)")
+    void t20() {
+        Tag existing = tagRepository.save(new Tag("기존태그"));
+        em.flush();
+
+        Map<String, Tag> first = pinTagService.findOrCreateTags(List.of("기존태그", "새태그", "새태그"));
+        Map<String, Tag> second = pinTagService.findOrCreateTags(List.of("새태그"));
+
+        assertThat(first).containsOnlyKeys("기존태그", "새태그");
+        assertThat(first.get("기존태그").getId()).isEqualTo(existing.getId());
+        assertThat(second.get("새태그").getId()).isEqualTo(first.get("새태그").getId());
+        assertThat(tagRepository.findByKeywordIn(List.of("새태그"))).hasSize(1);
+    }
+
+    // t20_1: 태그 일괄 조회 - 모두 사전 캐시에 있으면 SQL 없이 태그 반환
+    @Test
+    @DisplayName("t20_1 - 사전 캐시에 있는 태그만 쓰면 tags 테이블을 조회하지 않음")
+    void t20_1() {
+        Tag cafe = tagRepository.save(new Tag("카페"));
+        tagRepository.save(new Tag("야경"));
+        em.flush();
+        pinTagService.findOrCreateTags(List.of("카페", "야경"));    // 기존 태그는 upsert 결과로 바로 캐시
+
+        Statistics statistics = em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Map<String, Tag> tags = pinTagService.findOrCreateTags(List.of("카페", "야경"));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        statistics.setStatisticsEnabled(false);
+        assertThat(tags).containsOnlyKeys("카페", "야경");
+        assertThat(tags.get("카페").getId()).isEqualTo(cafe.getId());
+        assertThat(tags.get("카페").getCreatedAt()).isNotNull();
+    }
+
+    // t21: 태그 자동완성 - 접두어 일치, 사용 횟수 순
+    @Test
+    @DisplayName("t21 - 태그 자동완성 (한글/영문 접두어, 사용 횟수 순)")
+    void t21() throws Exception {
+        User user = userRepository.save(new User("tempUser", "pw", "email@test.com"));
+        Point point = geometryFactory.createPoint(new Coordinate(127.5, 37.5));
+        Pin pin = pinRepository.save(new Pin(point, user, "테스트용 핀"));
+        tagRepository.save(new Tag("카페"));
+        Tag curry = tagRepository.save(new Tag("카레"));
+        tagRepository.save(new Tag("Cafe"));
+        tagRepository.save(new Tag("야경"));
+        em.persist(new PinTag(pin, curry, false));
+        em.flush();
+        tagSuggestIndex.rebuild();
+
+        mvc.perform(get("/api/tags/suggest").param("prefix", "카"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tags", hasSize(2)))
+                .andExpect(jsonPath("$.data.tags[0].keyword").value("카레"))
+                .andExpect(jsonPath("$.data.tags[0].usageCount").value(1))
+                .andExpect(jsonPath("$.data.tags[1].keyword").value("카페"));
+
+        mvc.perform(get("/api/tags/suggest").param("prefix", "CA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tags", hasSize(1)))
+                .andExpect(jsonPath("$.data.tags[0].keyword").value("Cafe"));
+    }
 }
@@ -0,0 +1,69 @@
+package com.back.pinco.domain.tag.service;
+
+import com.back.pinco.domain.tag.entity.Tag;
+import com.back.pinco.domain.tag.repository.TagRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태그 생성은 요청마다 커밋되는 동시 실행을 확인해야 하므로 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest
+class PinTagServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private PinTagService pinTagService;
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Test
+    @DisplayName("같은 키워드를 동시에 생성해도 태그는 하나, 모든 요청이 같은 태그를 받음")
+    void concurrentCreate() throws Exception {
+        String keyword = "동시" + UUID.randomUUID().toString().substring(0, 8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Tag> tags;
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<Tag>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return pinTagService.findOrCreateTags(List.of(keyword)).get(keyword);
+                }));
+            }
+            start.countDown();
+
+            tags = new ArrayList<>();
+            for (Future<Tag> future : futures) {
+                tags.add(future.get());
+            }
+        }
+
+        Tag created = tagRepository.findByKeyword(keyword).orElseThrow();
+        assertThat(tagRepository.findByKeywordIn(List.of(keyword))).hasSize(1);
+        for (Tag tag : tags) {
+            // 프록시가 아닌 실제 엔티티 (트랜잭션 밖에서도 키워드·생성 시각을 읽을 수 있음)
+            assertThat(tag).isNotInstanceOf(HibernateProxy.class);
+            assertThat(Hibernate.isInitialized(tag)).isTrue();
+            assertThat(tag.getId()).isEqualTo(created.getId());
+            assertThat(tag.getKeyword()).isEqualTo(keyword);
+            assertThat(tag.getCreatedAt()).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.back.pinco.domain.tag.service;
+
+import com.back.pinco.domain.tag.dto.TagSuggestionDto;
+import com.back.pinco.domain.tag.dto.projection.TagUsageRow;
+import com.back.pinco.domain.tag.repository.TagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagSuggestIndexTest {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final TagSuggestIndex index = new TagSuggestIndex(tagRepository);
+
+    @Test
+    @DisplayName("재생성 조회 이후 추가된 태그도 새 색인에 남음")
+    void addDuringRebuild() {
+        // 조회가 끝나기 전에 다른 트랜잭션이 커밋한 새 태그 (조회 결과에는 없음)
+        when(tagRepository.findAllUsage()).thenAnswer(invocation -> {
+            index.add(2L, "카레");
+            return List.of(row(1L, "카페", 3));
+        });
+
+        index.rebuild();
+
+        assertThat(keywords("카")).containsExactly("카페", "카레");
+    }
+
+    @Test
+    @DisplayName("조회에 이미 포함된 태그는 재생성 중 추가돼도 사용 횟수 유지")
+    void addDuringRebuildAlreadyLoaded() {
+        when(tagRepository.findAllUsage()).thenAnswer(invocation -> {
+            index.add(1L, "카페");
+            return List.of(row(1L, "카페", 3));
+        });
+
+        index.rebuild();
+
+        assertThat(index.suggest("카", 10).orElseThrow())
+                .containsExactly(new TagSuggestionDto(1L, "카페", 3));
+    }
+
+    @Test
+    @DisplayName("색인 생성 후 추가된 태그는 바로 조회되고, 재생성이 끝나면 기록을 멈춤")
+    void addAfterRebuild() {
+        when(tagRepository.findAllUsage()).thenReturn(List.of(row(1L, "카페", 3)));
+        index.rebuild();
+
+        index.add(2L, "카레");
+        assertThat(keywords("카")).containsExactly("카페", "카레");
+
+        // 다음 재생성은 DB 기준 (이전 재생성 이후의 추가분을 다시 끼우지 않음)
+        when(tagRepository.findAllUsage()).thenReturn(List.of(row(1L, "카페", 3)));
+        index.rebuild();
+        assertThat(keywords("카")).containsExactly("카페");
+    }
+
+    private List<String> keywords(String prefix) {
+        return index.suggest(prefix, 10).orElseThrow().stream()
+                .map(TagSuggestionDto::keyword)
+                .toList();
+    }
+
+    private TagUsageRow row(Long id, String keyword, long usageCount) {
+        return new TagUsageRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getKeyword() {
+                return keyword;
+            }
+
+            @Override
+            public Long getUsageCount() {
+                return usageCount;
+            }
+        };
+    }
+}
@@ -1,12 +1,19 @@
 package com.back.pinco.domain.user.controller;
 
+import com.back.pinco.domain.bookmark.service.BookmarkService;
 import com.back.pinco.domain.likes.repository.LikesRepository;
 import com.back.pinco.domain.likes.service.LikesService;
+import com.back.pinco.domain.pin.dto.CreatePinRequest;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.repository.PinRepository;
 import com.back.pinco.domain.pin.service.PinService;
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.entity.UserStats;
 import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.domain.user.repository.UserStatsRepository;
+import com.back.pinco.domain.user.service.UserDataPurger;
 import com.back.pinco.domain.user.service.UserService;
+import com.back.pinco.domain.user.service.UserStatsService;
 import com.back.pinco.global.security.JwtTokenProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
@@ -20,9 +27,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -53,6 +62,16 @@ class UserControllerIntegrationTest {
     private EntityManager entityManager;
     @Autowired
     private LikesService likesService;
+    @Autowired
+    private UserStatsService userStatsService;
+    @Autowired
+    private UserDataPurger userDataPurger;
+    @Autowired
+    private BookmarkService bookmarkService;
+    @Autowired
+    private PinRepository pinRepository;
+    @Autowired
+    private UserStatsRepository userStatsRepository;
 
 
     @Test
@@ -879,22 +898,121 @@ class UserControllerIntegrationTest {
     }
 
     @Test
-    @DisplayName("탈퇴 회원 좋아요 취소 - 성공")
+    @DisplayName("마이페이지 통계 - 핀 작성/공개 전환/삭제 시 증감 반영")
     @Transactional
-    void setLikedFalse() throws Exception {
+    void userStats() {
         // given
-        Long userId = 3L;
-        User testUser = userService.findById(userId);
-        String jwtToken = jwtTokenProvider.generateAccessToken(testUser.getId(), testUser.getEmail(), testUser.getUserName());
+        User user = userService.createUser("stats+" + UUID.randomUUID().toString().substring(0, 8) + "@example.com", "12345678", "통계유저");
 
-        Integer[] pinIds = likesRepository.findPinsByUserIdAndLikedTrue(userId)
-                .stream()
-                .map(Pin::getId)
-                .map(Long::intValue)
-                .toArray(Integer[]::new);
+        // when
+        Pin pin1 = pinService.write(user, new CreatePinRequest(37.5665, 126.9780, "통계 핀 1"));
+        Pin pin2 = pinService.write(user, new CreatePinRequest(37.5666, 126.9781, "통계 핀 2"));
+        pinService.write(user, new CreatePinRequest(37.5667, 126.9782, "통계 핀 3"));
+        pinService.changePublic(user, pin1.getId());
+        pinService.deleteById(pin2.getId(), user);
 
-        // when & then
-//        int delcnt = likesService.updateDeleteUserLikedFalse(userId);
-//        assertThat(delcnt).isEqualTo(pinIds.length);
+        // then
+        UserStats stats = userStatsService.getStats(user.getId());
+        assertThat(stats.getPinCount()).isEqualTo(2L);
+        assertThat(stats.getPublicPinCount()).isEqualTo(1L);
+        assertThat(stats.getPrivatePinCount()).isEqualTo(1L);
+        assertThat(stats.getBookmarkCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("마이페이지 통계 - 핀 삭제 시 반영된 좋아요만 받은 좋아요에서 뺌")
+    @Transactional
+    void userStatsPinDeletedWithPendingLikes() {
+        // given: 핀 두 개가 좋아요를 하나씩 받아 반영된 상태
+        User user = userService.createUser("stats+" + UUID.randomUUID().toString().substring(0, 8) + "@example.com", "12345678", "통계유저");
+        Pin pin1 = pinService.write(user, new CreatePinRequest(37.5665, 126.9780, "통계 핀 1"));
+        Pin pin2 = pinService.write(user, new CreatePinRequest(37.5666, 126.9781, "통계 핀 2"));
+        likesService.changeLikes(pin1.getId(), 2L, true);
+        likesService.changeLikes(pin2.getId(), 2L, true);
+        Long[] pinIds = {pin1.getId(), pin2.getId()};
+        Long[] deltas = {1L, 1L};
+        pinRepository.applyLikeCountDeltas(pinIds, deltas);
+        userStatsRepository.applyLikesReceivedDeltas(pinIds, deltas);
+
+        // pin2 에 아직 버퍼에만 있는 좋아요 (커밋 전이라 반영되지 않음)
+        likesService.changeLikes(pin2.getId(), 3L, true);
+        assertThat(userStatsService.getStats(user.getId()).getLikesReceived()).isEqualTo(2L);
+
+        // when
+        pinService.deleteById(pin2.getId(), user);
+        entityManager.clear();    // 통계는 네이티브 UPDATE 로 바뀌므로 다시 조회
+
+        // then: pin2 에 반영된 좋아요 1개만 빠짐
+        assertThat(userStatsService.getStats(user.getId()).getLikesReceived()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원 데이터 정리 - 묶음 하나로 끝나는 데이터는 탈퇴 트랜잭션 안에서 정리")
+    @Transactional
+    void purgeInDeleteTransaction() {
+        // given
+        User user = userService.createUser("purge1+" + UUID.randomUUID().toString().substring(0, 8) + "@example.com", "12345678", "탈퇴유저1");
+        Long userId = user.getId();
+        pinService.write(user, new CreatePinRequest(37.5665, 126.9780, "탈퇴 회원 핀"));
+        likesService.changeLikes(1L, userId, true);
+        bookmarkService.addBookmark(userId, 1L);
+
+        // when
+        userService.delete(user);
+        entityManager.clear();    // 정리는 네이티브 UPDATE 로 반영되므로 다시 조회
+
+        // then: 커밋 전에 같은 트랜잭션에서 이미 정리됨
+        assertPurged(userId);
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원 데이터 정리 - 좋아요 취소, 핀·북마크 삭제")
+    void setLikedFalse() {
+        // given: 다른 사용자의 핀 1번에 좋아요·북마크, 본인 핀 작성 (테스트 트랜잭션 없이 커밋)
+        User user = userService.createUser("purge+" + UUID.randomUUID().toString().substring(0, 8) + "@example.com", "12345678", "탈퇴유저");
+        Long userId = user.getId();
+        pinService.write(user, new CreatePinRequest(37.5665, 126.9780, "탈퇴 회원 핀"));
+        likesService.changeLikes(1L, userId, true);
+        bookmarkService.addBookmark(userId, 1L);
+
+        // when
+        userService.delete(user);
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertPurged(userId));
+        assertThat((long) pinRepository.findById(1L).orElseThrow().getLikeCount())
+                .isEqualTo(likesRepository.countByPin_IdAndLikedTrue(1L));
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원 데이터 정리 - 정리되지 않은 사용자는 sweep 이 다시 정리")
+    void purgeSweep() {
+        // given: 탈퇴 처리만 되고 데이터 정리가 실패한 상태
+        User user = userService.createUser("sweep+" + UUID.randomUUID().toString().substring(0, 8) + "@example.com", "12345678", "정리실패");
+        Long userId = user.getId();
+        pinService.write(user, new CreatePinRequest(37.5665, 126.9780, "정리 안 된 핀"));
+        likesService.changeLikes(1L, userId, true);
+        bookmarkService.addBookmark(userId, 1L);
+        User deleted = userRepository.findById(userId).orElseThrow();
+        deleted.setDeleted(true);
+        userRepository.save(deleted);
+
+        // when
+        userDataPurger.sweep();
+
+        // then
+        assertPurged(userId);
+    }
+
+    private void assertPurged(Long userId) {
+        assertThat(likesRepository.countByUser_idAndLikedTrue(userId)).isEqualTo(0L);
+        assertThat(entityManager.createQuery(
+                        "SELECT COUNT(p) FROM Pin p WHERE p.user.id = :userId AND p.deleted = false", Long.class)
+                .setParameter("userId", userId)
+                .getSingleResult()).isEqualTo(0L);
+        assertThat(entityManager.createQuery(
+                        "SELECT COUNT(b) FROM Bookmark b WHERE b.user.id = :userId AND b.deleted = false", Long.class)
+                .setParameter("userId", userId)
+                .getSingleResult()).isEqualTo(0L);
     }
 }
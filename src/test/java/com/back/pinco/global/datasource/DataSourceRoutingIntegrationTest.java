@@ -0,0 +1,69 @@
+package com.back.pinco.global.datasource;
+
+import com.back.pinco.domain.pin.service.PinService;
+import com.back.pinco.domain.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * replica 프로필에서 실제 서비스 호출이 어느 Hikari 풀에서 커넥션을 받는지 확인
+ * (풀별 hikaricp.connections.acquire 횟수 증가로 판단, 스케줄러가 primary 를 쓸 수 있어 증가 여부만 본다)
+ * replica 풀도 primary 와 같은 테스트 스키마를 보도록 jdbc-url 을 덮어쓴다.
+ */
+@SpringBootTest(properties = "custom.datasource.replica.jdbc-url=jdbc:postgresql://localhost:5432/pinco?currentSchema=pinco_test,public")
+@ActiveProfiles({"test", "replica"})
+class DataSourceRoutingIntegrationTest {
+
+    @Autowired
+    private PinService pinService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("읽기 전용 서비스 호출은 replica 풀에서 커넥션을 받음")
+    void readOnlyUsesReplica() {
+        long replica = acquired("replica");
+
+        pinService.count();    // @Transactional(readOnly = true)
+
+        assertThat(acquired("replica")).isGreaterThan(replica);
+    }
+
+    @Test
+    @DisplayName("쓰기 서비스 호출은 primary 풀에서 커넥션을 받음")
+    void writeUsesPrimary() {
+        long primary = acquired("primary");
+        long replica = acquired("replica");
+
+        userService.createUser("routing+" + UUID.randomUUID().toString().substring(0, 8) + "@example.com", "12345678", "라우팅");
+
+        assertThat(acquired("primary")).isGreaterThan(primary);
+        assertThat(acquired("replica")).isEqualTo(replica);
+    }
+
+    @Test
+    @DisplayName("@ReadFromPrimary 읽기 전용 조회는 primary 풀에서 커넥션을 받음")
+    void readFromPrimaryUsesPrimary() {
+        long primary = acquired("primary");
+        long replica = acquired("replica");
+
+        pinService.findChanges(null, null, 37.5, 126.9, 37.6, 127.0, 10);
+
+        assertThat(acquired("primary")).isGreaterThan(primary);
+        assertThat(acquired("replica")).isEqualTo(replica);
+    }
+
+    private long acquired(String pool) {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count();
+    }
+}
@@ -0,0 +1,137 @@
+package com.back.pinco.global.datasource;
+
+import com.back.pinco.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(3));
+    private final ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(tracker);
+    private final WriteStatementInspector inspector = new WriteStatementInspector(tracker, null);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clear();
+        ReplicationRoutingDataSource.forcePrimary(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary")
+    void routeByReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.REPLICA);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 같은 사용자의 읽기는 primary, 다른 사용자는 replica")
+    void readYourWrites() {
+        loginAs(1L);
+
+        // 쓰기 트랜잭션 커밋
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.determineCurrentLookupKey();
+        inspector.inspect("update pins set content=? where pin_id=?");
+        commit();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.PRIMARY);
+
+        loginAs(2L);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 읽기 경로를 바꾸지 않음")
+    void rolledBackWriteNotSticky() {
+        loginAs(1L);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.determineCurrentLookupKey();
+        inspector.inspect("insert into likes (like_id, user_id, pin_id) values (?, ?, ?)");    // afterCommit 호출 없음
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이어도 조회만 했으면 읽기 경로를 바꾸지 않음")
+    void readOnlyWorkInWriteTransactionNotSticky() {
+        loginAs(1L);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.determineCurrentLookupKey();
+        inspector.inspect("select p.pin_id, p.updated_at from pins p where p.is_deleted = false for update");
+        inspector.inspect("with input as (select 1) select * from input");
+        commit();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 CTE(upsert)도 쓰기로 기록")
+    void writeCteSticky() {
+        loginAs(1L);
+
+        inspector.inspect("""
+                WITH input AS (SELECT 1)
+                , ins AS (INSERT INTO tags (tag_id, keyword) SELECT 1, 'a' ON CONFLICT (keyword) DO NOTHING RETURNING tag_id)
+                SELECT * FROM ins""");
+        commit();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("@ReadFromPrimary 구간의 읽기 전용 트랜잭션은 primary")
+    void forcedPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        boolean previous = ReplicationRoutingDataSource.forcePrimary(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.PRIMARY);
+
+        ReplicationRoutingDataSource.forcePrimary(previous);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.Target.REPLICA);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private void loginAs(Long userId) {
+        User user = new User("user" + userId + "@example.com", "12345678", "유저" + userId);
+        ReflectionTestUtils.setField(user, "id", userId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
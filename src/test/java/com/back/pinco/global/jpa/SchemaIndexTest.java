@@ -0,0 +1,230 @@
+package com.back.pinco.global.jpa;
+
+import com.back.pinco.domain.bookmark.repository.BookmarkRepository;
+import com.back.pinco.domain.likes.repository.LikesRepository;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.tag.repository.PinTagRepository;
+import com.back.pinco.domain.tag.repository.TagRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션으로 만든 인덱스를 리포지토리 쿼리가 실제로 타는지 실행 계획으로 확인
+ * 리포지토리 메서드를 호출해 Hibernate 가 만든 SQL 을 그대로 잡아 EXPLAIN 하므로 쿼리를 고치면 이 테스트도 함께 검증된다.
+ * 바인드 값은 $1, $2 ... 로 바꿔 GENERIC_PLAN(PostgreSQL 16) 으로 본다. (값과 무관하게 인덱스를 쓸 수 있는지 확인)
+ * 테스트 데이터가 적으면 순차 스캔이 더 싸게 나오므로 enable_seqscan 을 꺼서 인덱스 사용 가능 여부만 본다.
+ * (쓸 수 있는 인덱스가 없으면 enable_seqscan = off 여도 Seq Scan 이 나옴)
+ */
+@SpringBootTest
+@Transactional
+class SchemaIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlCapture sqlCapture;
+    @Autowired
+    private PinRepository pinRepository;
+    @Autowired
+    private PinTagRepository pinTagRepository;
+    @Autowired
+    private LikesRepository likesRepository;
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+    @Autowired
+    private TagRepository tagRepository;
+
+    @BeforeEach
+    void disableSeqScan() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");   // 테스트 트랜잭션 안에서만 적용
+    }
+
+    @Test
+    @DisplayName("핀 화면 영역/클러스터 조회 - geometry 식 공간 부분 인덱스")
+    void pinsBoundingBox() {
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinRepository.findPublicPinsInBoundingBox(37.5, 126.9, 37.6, 127.1)), "idx_pin_point_geom");
+
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinRepository.findPinsInBoundingBox(37.5, 126.9, 37.6, 127.1, 1L)), "idx_pin_point_geom");
+
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinRepository.findPublicClusters(37.5, 126.9, 37.6, 127.1, 0.01)), "idx_pin_point_geom");
+
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinRepository.findPublicClusterTags(37.5, 126.9, 37.6, 127.1, 0.01, 3)), "idx_pin_point_geom");
+    }
+
+    @Test
+    @DisplayName("핀 반경 조회 - geography 공간 부분 인덱스")
+    void pinsWithinRadius() {
+        String plan = explain(sqlCapture.capture(() ->
+                pinRepository.findPublicPinsWithinRadius(37.5665, 126.978, 1000.0)));
+
+        assertThat(plan).as(plan).containsPattern("idx_pin_point\\b").doesNotContain("Seq Scan");    // _geom 인덱스가 아닌 geography 인덱스
+    }
+
+    @Test
+    @DisplayName("작성자별 핀 기간 조회 - 삭제 제외 부분 인덱스")
+    void pinsByUser() {
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinRepository.findPublicByUserDate(1L, NOW, NOW.plusYears(1))), "idx_pin_user_created");
+    }
+
+    @Test
+    @DisplayName("공개 핀 전체 목록 keyset - 공개 핀 부분 인덱스")
+    void publicPinsAfter() {
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinRepository.findPublicPinsAfter(100L, Limit.of(50))), "idx_pin_public_id");
+    }
+
+    @Test
+    @DisplayName("반경 내 핀 전문 검색 - search_vector GIN 인덱스 또는 공간 인덱스")
+    void pinSearch() {
+        String plan = explain(sqlCapture.capture(() ->
+                pinRepository.searchPublicPinsWithinRadius("카페", 37.5665, 126.978, 1000.0, 20)));
+
+        assertThat(plan).as(plan).containsAnyOf("idx_pin_search_vector", "idx_pin_point").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("변경 피드 - 수정 시각 인덱스")
+    void pinChanges() {
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinRepository.findChangesInBoundingBox(NOW, 0L, NOW.plusDays(1), 37.5, 126.9, 37.6, 127.1, 100)),
+                "idx_pin_modified");
+    }
+
+    @Test
+    @DisplayName("좋아요 수/목록 keyset - is_liked 부분 인덱스")
+    void likes() {
+        assertUsesIndex(sqlCapture.capture(() ->
+                likesRepository.countByPin_IdAndLikedTrue(1L)), "idx_like_pin_liked");
+
+        assertUsesIndex(sqlCapture.capture(() ->
+                likesRepository.findVisibleLikesByUserId(1L, 1000L, Limit.of(21))), "idx_like_user_liked");
+
+        assertUsesIndex(sqlCapture.capture(() ->
+                likesRepository.findLikesByPinId(1L, 1000L, Limit.of(21))), "idx_like_pin_liked");
+    }
+
+    @Test
+    @DisplayName("사용자별 북마크 목록 keyset - 삭제 제외 부분 인덱스")
+    void bookmarks() {
+        assertUsesIndex(sqlCapture.capture(() ->
+                bookmarkRepository.findVisibleByUserId(1L, Limit.of(21))), "idx_bookmark_user_created");
+
+        assertUsesIndex(sqlCapture.capture(() ->
+                bookmarkRepository.findVisibleByUserIdBefore(1L, NOW, 1000L, Limit.of(21))), "idx_bookmark_user_created");
+    }
+
+    @Test
+    @DisplayName("태그별 핀 조회(GROUP BY/HAVING) - 삭제 제외 부분 인덱스")
+    void pinsByTags() {
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinTagRepository.findPublicPinIdsByTagIds(Set.of(1L, 2L), 2, PageRequest.of(0, 20))), "idx_pin_tag_tag");
+
+        assertUsesIndex(sqlCapture.capture(() ->
+                pinTagRepository.findAccessiblePinIdsByTagIds(Set.of(1L, 2L), 1, 1L, PageRequest.of(0, 20))), "idx_pin_tag_tag");
+    }
+
+    @Test
+    @DisplayName("태그 자동완성 - 접두어 인덱스 (접두어가 상수일 때만 쓸 수 있으므로 바인드 값을 넣어 확인)")
+    void tagPrefix() {
+        String sql = sqlCapture.capture(() -> tagRepository.findUsageByKeywordPrefix("ca%", 10));
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + bindLiterals(sql, "'ca%'", "10"), String.class));
+        assertThat(plan).as(plan).contains("idx_tag_keyword_prefix").doesNotContain("Seq Scan");
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = explain(sql);
+        assertThat(plan).as(plan).contains(indexName).doesNotContain("Seq Scan");
+    }
+
+    // JDBC 자리표시자(?)를 $n 으로 바꿔 값 없이 실행 계획 조회
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int n = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') numbered.append('$').append(++n);
+            else numbered.append(c);
+        }
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class));
+    }
+
+    private String bindLiterals(String sql, String... literals) {
+        String bound = sql;
+        for (String literal : literals) bound = bound.replaceFirst("\\?", literal);
+        return bound;
+    }
+
+    /** 현재 스레드에서 실행된 SQL 기록 (스케줄러 등 다른 스레드의 SQL 은 무시) */
+    static class SqlCapture implements StatementInspector {
+        private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+        private StatementInspector delegate;
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = captured.get();
+            if (statements != null) statements.add(sql);
+            return delegate == null ? sql : delegate.inspect(sql);
+        }
+
+        /** @return 작업 중 처음 실행된 SQL (연관 엔티티 추가 조회 등은 제외) */
+        String capture(Runnable work) {
+            List<String> statements = new ArrayList<>();
+            captured.set(statements);
+            try {
+                work.run();
+            } finally {
+                captured.remove();
+            }
+            assertThat(statements).as("실행된 SQL").isNotEmpty();
+            return statements.getFirst();
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        // 기존 StatementInspector(SQL 실행 수 집계 등)를 감싸도록 마지막에 적용
+        @Bean
+        @Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> {
+                if (properties.get(AvailableSettings.STATEMENT_INSPECTOR) instanceof StatementInspector existing) {
+                    sqlCapture.delegate = existing;
+                }
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+            };
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.back.pinco.global.jpa;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 테스트 프로필 : 테스트 JVM 에서 처음 뜨는 컨텍스트가 테스트 스키마를 비우고 다시 마이그레이션
+ * 설정이 다른 테스트 클래스마다 컨텍스트가 새로 뜨므로, 이미 떠 있는 컨텍스트의 캐시가 어긋나지 않도록 한 번만 비운다.
+ */
+@Configuration
+@Profile("test")
+public class TestFlywayConfig {
+    private static final AtomicBoolean cleaned = new AtomicBoolean();
+
+    @Bean
+    public FlywayMigrationStrategy cleanOnceMigrationStrategy() {
+        return flyway -> {
+            if (cleaned.compareAndSet(false, true)) flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
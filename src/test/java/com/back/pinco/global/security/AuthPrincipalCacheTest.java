@@ -0,0 +1,112 @@
+package com.back.pinco.global.security;
+
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthPrincipalCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthPrincipalCache cache = new AuthPrincipalCache(userRepository, new SimpleMeterRegistry(), 300, 100);
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = user(1L, "유저1", "key-1");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findByApiKey("key-1")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("userId, apiKey 조회는 한 번만 DB 를 조회하고 이후 캐시에서 반환")
+    void cacheHit() {
+        assertThat(cache.findById(1L)).containsSame(user);
+        assertThat(cache.findById(1L)).containsSame(user);
+        assertThat(cache.findByApiKey("key-1")).containsSame(user);
+        assertThat(cache.findByApiKey("key-1")).containsSame(user);
+
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(1)).findByApiKey("key-1");
+    }
+
+    @Test
+    @DisplayName("없는 사용자/apiKey 는 캐시하지 않음")
+    void missNotCached() {
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+        when(userRepository.findByApiKey("unknown")).thenReturn(Optional.empty());
+
+        assertThat(cache.findById(2L)).isEmpty();
+        assertThat(cache.findById(2L)).isEmpty();
+        assertThat(cache.findByApiKey("unknown")).isEmpty();
+        assertThat(cache.findByApiKey("unknown")).isEmpty();
+
+        verify(userRepository, times(2)).findById(2L);
+        verify(userRepository, times(2)).findByApiKey("unknown");
+    }
+
+    @Test
+    @DisplayName("회원 정보 수정 후 evict 하면 다음 조회에서 바뀐 정보를 다시 읽음")
+    void evictOnUpdate() {
+        cache.findById(1L);
+
+        User renamed = user(1L, "새이름", "key-1");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(renamed));
+        cache.evict(1L);
+
+        assertThat(cache.findById(1L)).containsSame(renamed);
+        assertThat(cache.findByApiKey("key-1")).containsSame(renamed);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 userId, apiKey 모두 조회되지 않음")
+    void deletedUser() {
+        assertThat(cache.findByApiKey("key-1")).isPresent();
+
+        User deleted = user(1L, "유저1", "key-1");
+        deleted.softDelete();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(deleted));
+        cache.evict(1L);
+
+        assertThat(cache.findById(1L)).isEmpty();
+        assertThat(cache.findByApiKey("key-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("apiKey 가 바뀌면 예전 키로는 인증되지 않고 새 키로 인증됨")
+    void apiKeyRotation() {
+        assertThat(cache.findByApiKey("key-1")).containsSame(user);
+
+        User rotated = user(1L, "유저1", "key-2");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(rotated));
+        when(userRepository.findByApiKey("key-1")).thenReturn(Optional.empty());
+        when(userRepository.findByApiKey("key-2")).thenReturn(Optional.of(rotated));
+        cache.evict(1L);
+
+        assertThat(cache.findByApiKey("key-1")).isEmpty();
+        assertThat(cache.findByApiKey("key-2")).containsSame(rotated);
+
+        // 예전 키 매핑은 지워져 다음 조회는 DB 기준
+        assertThat(cache.findByApiKey("key-1")).isEmpty();
+        verify(userRepository, times(2)).findByApiKey("key-1");
+    }
+
+    private User user(Long id, String userName, String apiKey) {
+        User user = new User("user" + id + "@example.com", "password", userName);
+        user.setId(id);
+        user.setApiKey(apiKey);
+        return user;
+    }
+}
@@ -0,0 +1,65 @@
+package com.back.pinco.global.security;
+
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.domain.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class CustomAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 apiKey 는 캐시에 올라간 뒤에도 더 이상 인증되지 않음")
+    void deletedUserApiKey() throws Exception {
+        User user = userService.createUser("authcache@example.com", "12345678", "캐시유저");
+
+        mvc.perform(get("/api/user/getInfo").header("Authorization", "Bearer " + user.getApiKey()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("authcache@example.com"));
+
+        userService.delete(userRepository.findById(user.getId()).orElseThrow());
+
+        mvc.perform(get("/api/user/getInfo").header("Authorization", "Bearer " + user.getApiKey()))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("2012"));
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 access 토큰은 더 이상 인증되지 않음")
+    void deletedUserAccessToken() throws Exception {
+        User user = userService.createUser("authcache2@example.com", "12345678", "캐시유저2");
+        String accessToken = userService.genAccessToken(user);
+
+        mvc.perform(get("/api/user/getInfo").header("Authorization", "Bearer  " + accessToken))
+                .andExpect(status().isOk());
+
+        userService.delete(userRepository.findById(user.getId()).orElseThrow());
+
+        mvc.perform(get("/api/user/getInfo").header("Authorization", "Bearer  " + accessToken))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("2013"));
+    }
+}